@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Gera a imagem CRaC: sobe a aplicação no Dockerfile.crac, que aquece e faz o checkpoint em /crac
+# (o processo termina ao final do checkpoint), e commita o container parado como imagem que
+# restaura desse checkpoint.
+#
+# Uso:
+#   scripts/crac-checkpoint.sh <tag>
+#
+# Variáveis:
+#   DOCKER_ARGS  argumentos extras do docker run, normalmente rede e variáveis do banco do ambiente,
+#                ex.: "--network api-food-network --env-file prd.env"
+#
+# O banco precisa estar acessível durante o checkpoint: o aquecimento executa as leituras reais.
+# O heap vai inteiro para a imagem, inclusive as credenciais lidas na subida, então a imagem
+# deve ser tratada como segredo.
+set -euo pipefail
+
+TAG=${1:?"uso: $0 <tag>"}
+DOCKER_ARGS=${DOCKER_ARGS:-}
+CONTAINER=api-orders-checkpoint
+
+docker build -f Dockerfile.crac -t "$TAG-base" .
+docker rm -f "$CONTAINER" > /dev/null 2>&1 || true
+
+# shellcheck disable=SC2086
+docker run --name "$CONTAINER" --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE $DOCKER_ARGS "$TAG-base" || true
+
+if ! docker diff "$CONTAINER" | grep -q "^A /crac"; then
+    docker logs "$CONTAINER" | tail -n 50
+    echo "checkpoint não foi gerado" >&2
+    exit 1
+fi
+
+docker commit "$CONTAINER" "$TAG"
+docker rm "$CONTAINER" > /dev/null
+
+# Confere o restore: a prontidão só responde 200 com o pool do Hikari reconectado ao banco
+RESTORED=$CONTAINER-restore
+docker rm -f "$RESTORED" > /dev/null 2>&1 || true
+# shellcheck disable=SC2086
+docker run -d --name "$RESTORED" --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE -p 127.0.0.1::8080 $DOCKER_ARGS "$TAG" > /dev/null
+READINESS="http://$(docker port "$RESTORED" 8080 | head -n 1)/health/readiness"
+for _ in $(seq 1 30); do
+    if curl -fsS "$READINESS" > /dev/null 2>&1; then
+        break
+    fi
+    sleep 1
+done
+if ! curl -fsS "$READINESS" > /dev/null 2>&1 || ! docker logs "$RESTORED" 2>&1 | grep -q "Restored from checkpoint"; then
+    docker logs "$RESTORED" | tail -n 50
+    docker rm -f "$RESTORED" > /dev/null
+    echo "restore da imagem $TAG falhou" >&2
+    exit 1
+fi
+docker rm -f "$RESTORED" > /dev/null
+
+echo "imagem $TAG restaura de /crac; execute com --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE"
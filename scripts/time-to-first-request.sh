@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Mede o tempo de subida de uma imagem: do "docker run" até o /health/readiness responder 200
+# (o que o readinessProbe enxerga, já depois do aquecimento) e até a primeira resposta 200 de
+# um endpoint de negócio.
+#
+# Uso:
+#   scripts/time-to-first-request.sh <imagem> [execuções]
+#
+# Variáveis:
+#   DOCKER_ARGS  argumentos extras do docker run, ex.: "--network api-food-network --env-file des.env"
+#   PROBE_PATH   endpoint de negócio medido (padrão /v1/products)
+#   PORT         porta local publicada (padrão 18080)
+#   TIMEOUT_S    limite por execução em segundos (padrão 120)
+#
+# Para comparar antes/depois:
+#   docker build --build-arg FAST_START=false -t api-orders:baseline .
+#   docker build -t api-orders:faststart .
+#   scripts/time-to-first-request.sh api-orders:baseline 5
+#   scripts/time-to-first-request.sh api-orders:faststart 5
+set -euo pipefail
+
+IMAGE=${1:?"uso: $0 <imagem> [execuções]"}
+RUNS=${2:-5}
+PROBE_PATH=${PROBE_PATH:-/v1/products}
+PORT=${PORT:-18080}
+TIMEOUT_S=${TIMEOUT_S:-120}
+DOCKER_ARGS=${DOCKER_ARGS:-}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+wait_for() {
+    local url=$1 deadline=$2
+    until curl -fs -o /dev/null "$url"; do
+        if (( $(now_ms) > deadline )); then
+            return 1
+        fi
+        sleep 0.05
+    done
+}
+
+health_times=()
+first_times=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    container=$(docker run -d --rm -p "$PORT:8080" $DOCKER_ARGS "$IMAGE")
+    deadline=$(( start + TIMEOUT_S * 1000 ))
+
+    if ! wait_for "http://localhost:$PORT/health/readiness" "$deadline"; then
+        docker logs "$container" | tail -n 50
+        docker stop "$container" > /dev/null
+        echo "execução $run: /health/readiness não respondeu em ${TIMEOUT_S}s" >&2
+        exit 1
+    fi
+    health=$(( $(now_ms) - start ))
+
+    wait_for "http://localhost:$PORT$PROBE_PATH" "$deadline"
+    first=$(( $(now_ms) - start ))
+
+    started=$(docker logs "$container" 2>&1 | grep -o "Started [A-Za-z]* in [0-9.]* seconds" || true)
+    docker stop "$container" > /dev/null
+
+    health_times+=("$health")
+    first_times+=("$first")
+    echo "execução $run: /health/readiness ${health} ms, $PROBE_PATH ${first} ms ${started:+($started)}"
+done
+
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+echo "$IMAGE mediana de $RUNS execuções: /health/readiness $(median "${health_times[@]}") ms, $PROBE_PATH $(median "${first_times[@]}") ms"
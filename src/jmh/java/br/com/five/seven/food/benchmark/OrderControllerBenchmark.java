@@ -0,0 +1,119 @@
+package br.com.five.seven.food.benchmark;
+
+import br.com.five.seven.food.adapter.in.controller.OrderController;
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
+import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.in.OrderServiceIn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderController#getAllOrders} over a page of 20 orders, without the database and
+ * the HTTP layer. Run with {@code -prof gc} to compare the bytes allocated per page with
+ * the catalog responses memoised ({@code catalogCacheEntries} > 0) and rebuilt every time.
+ * Each order holds its own product instances, as when they are loaded per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderControllerBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10"})
+    private int itemCount;
+
+    @Param({"0", "10000"})
+    private int catalogCacheEntries;
+
+    private OrderController orderController;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        List<Order> orders = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            orders.add(OrderFixtures.order(itemCount));
+        }
+        pageable = PageRequest.of(0, PAGE_SIZE);
+        Page<Order> page = new PageImpl<>(orders, pageable, 500);
+        orderController = new OrderController(new PageOrderService(page),
+                OrderFixtures.orderMapper(new CatalogResponseCache(catalogCacheEntries)));
+    }
+
+    @Benchmark
+    public ResponseEntity<Page<OrderResponse>> getAllOrders() {
+        return orderController.getAllOrders(pageable);
+    }
+
+    private record PageOrderService(Page<Order> page) implements OrderServiceIn {
+
+        @Override
+        public Page<Order> findAll(Pageable pageable) {
+            return page;
+        }
+
+        @Override
+        public Page<Order> findAllByOrderStatus(List<OrderStatus> orderStatus, Pageable pageable) {
+            return page;
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order update(Long id, Order order) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order create(Order order) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order updateStatusOrder(Long orderId, OrderStatus orderStatus) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order advanceOrderStatus(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order updateOrderItems(Long id, Order order) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
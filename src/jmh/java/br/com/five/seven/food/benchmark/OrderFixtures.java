@@ -0,0 +1,86 @@
+package br.com.five.seven.food.benchmark;
+
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
+import br.com.five.seven.food.adapter.in.mappers.ItemMapper;
+import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.in.mappers.ProductMapperImpl;
+import br.com.five.seven.food.adapter.in.mappers.impl.ItemMapperImpl;
+import br.com.five.seven.food.adapter.in.mappers.impl.OrderMapperImpl;
+import br.com.five.seven.food.application.domain.Category;
+import br.com.five.seven.food.application.domain.Image;
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Orders shaped like the ones the API serves: a handful of catalog products with
+ * a category and two images each, repeated across the items of the order.
+ */
+final class OrderFixtures {
+
+    private static final int CATALOG_SIZE = 20;
+
+    private OrderFixtures() {
+    }
+
+    static ItemMapper itemMapper() {
+        return itemMapper(new CatalogResponseCache());
+    }
+
+    static ItemMapper itemMapper(CatalogResponseCache catalogResponses) {
+        return new ItemMapperImpl(new ProductMapperImpl(), catalogResponses);
+    }
+
+    static OrderMapper orderMapper() {
+        return new OrderMapperImpl(itemMapper());
+    }
+
+    static OrderMapper orderMapper(CatalogResponseCache catalogResponses) {
+        return new OrderMapperImpl(itemMapper(catalogResponses));
+    }
+
+    static Order order(int itemCount) {
+        List<Product> catalog = catalog();
+        List<Item> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new Item((long) i + 1, catalog.get(i % CATALOG_SIZE), 1 + i % 3));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Order order = new Order(42L, "Pedido 42", "Combo com bebida", OrderStatus.IN_PREPARATION, "12345678901",
+                items, null, now.minusMinutes(12), now.minusMinutes(15), now);
+        items.forEach(item -> item.setOrder(order));
+        order.setTotalAmount(order.calculateTotalAmount());
+        order.setRemainingTime("Tempo restante: 18 minutos e 0 segundos");
+        order.setStatusChangedAt(now.minusMinutes(5));
+        return order;
+    }
+
+    static Product product(long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Produto " + id);
+        product.setDescription("Descrição do produto " + id + " com ingredientes e observações");
+        product.setPrice(new BigDecimal("12.90").add(BigDecimal.valueOf(id)));
+        product.setActive(true);
+        product.setImages(new ArrayList<>(List.of(
+                new Image("https://cdn.example.com/products/" + id + "/main.jpg"),
+                new Image("https://cdn.example.com/products/" + id + "/side.jpg"))));
+        product.setCategory(new Category(id % 4 + 1, "Categoria " + (id % 4 + 1), true));
+        return product;
+    }
+
+    private static List<Product> catalog() {
+        List<Product> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (long id = 1; id <= CATALOG_SIZE; id++) {
+            catalog.add(product(id));
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.five.seven.food.benchmark;
+
+import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
+import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.application.domain.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping done by {@code OrderMapperImpl} and {@code ItemMapperImpl} on every order read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private OrderMapper orderMapper;
+    private Order order;
+    private OrderEntity entity;
+
+    @Setup
+    public void setUp() {
+        orderMapper = OrderFixtures.orderMapper();
+        order = OrderFixtures.order(itemCount);
+        entity = orderMapper.domainToEntity(order);
+    }
+
+    @Benchmark
+    public OrderResponse domainToResponse() {
+        return orderMapper.domainToResponse(order);
+    }
+
+    @Benchmark
+    public OrderEntity domainToEntity() {
+        return orderMapper.domainToEntity(order);
+    }
+
+    @Benchmark
+    public Order entityToDomain() {
+        return orderMapper.entityToDomain(entity);
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.five.seven.food.benchmark;
+
+import br.com.five.seven.food.adapter.in.payload.order.CompactOrderResponse;
+import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
+import br.com.five.seven.food.application.domain.Order;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of {@link OrderResponse} and {@link CompactOrderResponse}. {@code plain}
+ * is the Spring Boot default mapper, {@code tuned} adds what the application registers:
+ * the Blackbird module. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderSerializationBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"plain", "tuned"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private OrderResponse response;
+    private CompactOrderResponse compactResponse;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("tuned".equals(mapper)) {
+            builder.addModule(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        Order order = OrderFixtures.order(itemCount);
+        response = OrderFixtures.orderMapper().domainToResponse(order);
+        compactResponse = OrderFixtures.orderMapper().domainToCompactResponse(order);
+        System.out.printf("%n%s mapper, %d items: full %d bytes, compact %d bytes%n", mapper, itemCount,
+                writeOrderResponse().length, writeCompactOrderResponse().length);
+    }
+
+    @Benchmark
+    public byte[] writeOrderResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeCompactOrderResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(compactResponse);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.five.seven.food.benchmark;
+
+import br.com.five.seven.food.application.domain.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order totals in centavos against the previous stream of {@link BigDecimal} multiplications,
+ * run with {@code -prof gc} to compare allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public long calculateTotalCents() {
+        return order.calculateTotalCents();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        return order.calculateTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalStreamBaseline() {
+        return order.getItems().stream()
+                .map(item -> item.getProduct().getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
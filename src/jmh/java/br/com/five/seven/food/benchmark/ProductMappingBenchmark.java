@@ -0,0 +1,57 @@
+package br.com.five.seven.food.benchmark;
+
+import br.com.five.seven.food.adapter.in.mappers.ProductMapper;
+import br.com.five.seven.food.adapter.in.mappers.ProductMapperImpl;
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
+import br.com.five.seven.food.adapter.out.relational.entity.ProductEntity;
+import br.com.five.seven.food.application.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct {@link ProductMapper} and {@link Product#toResponse()}, run once per item of every order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    private ProductMapper productMapper;
+    private Product product;
+    private ProductEntity entity;
+
+    @Setup
+    public void setUp() {
+        productMapper = new ProductMapperImpl();
+        product = OrderFixtures.product(7L);
+        entity = productMapper.fromDomain(product);
+    }
+
+    @Benchmark
+    public ProductEntity fromDomain() {
+        return productMapper.fromDomain(product);
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return productMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProductResponse toResponse() {
+        return product.toResponse();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.five.seven.food.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the menu the traffic mix reads and orders from, through the public API.
+ */
+final class CatalogSeeder {
+
+    static final List<String> CATEGORIES = List.of("Lanche", "Acompanhamento", "Bebida", "Sobremesa");
+    private static final int PRODUCTS_PER_CATEGORY = 6;
+
+    private final LoadTestClient client;
+    private final ObjectMapper objectMapper;
+
+    CatalogSeeder(LoadTestClient client, ObjectMapper objectMapper) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return ids of the created products
+     */
+    List<Long> seed() throws IOException, InterruptedException {
+        for (String category : CATEGORIES) {
+            HttpResponse<String> response = client.post("/v1/categories",
+                    objectMapper.writeValueAsString(new CategoryBody(category, true)));
+            if (response.statusCode() >= 400 && client.get("/v1/categories/by-name?categoryName=" + category).statusCode() != 200) {
+                throw new IllegalStateException("Could not create category " + category + ": " + response.body());
+            }
+        }
+
+        List<Long> productIds = new ArrayList<>();
+        for (String category : CATEGORIES) {
+            for (int i = 1; i <= PRODUCTS_PER_CATEGORY; i++) {
+                ProductBody product = new ProductBody(category + " " + i, "Item " + i + " de " + category,
+                        9.90 + i * 3, true, List.of(new ImageBody("https://example.com/" + category + "/" + i + ".jpg")),
+                        category);
+                HttpResponse<String> response = client.post("/v1/products", objectMapper.writeValueAsString(product));
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Could not create product " + product.name() + ": " + response.body());
+                }
+                JsonNode created = objectMapper.readTree(response.body());
+                productIds.add(created.get("id").asLong());
+            }
+        }
+        return productIds;
+    }
+
+    record CategoryBody(String name, boolean active) {
+    }
+
+    record ImageBody(String url) {
+    }
+
+    record ProductBody(String name, String description, double price, boolean active, List<ImageBody> images,
+                       String category) {
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.five.seven.food.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per operation, written as JSON (for comparing
+ * commits) and as a plain text table.
+ */
+final class LatencyReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    Path write(LoadTestSettings settings, Duration elapsed) throws IOException {
+        Files.createDirectories(settings.outputDir);
+        String name = settings.label + "-" + Instant.now().toString().replace(":", "");
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", settings.label);
+        report.put("settings", settings.toString());
+        report.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        report.put("total", summary(merged(), totalErrors(), elapsed));
+        Map<String, Object> operations = new LinkedHashMap<>();
+        histograms.forEach((operation, histogram) ->
+                operations.put(operation.name(), summary(histogram, errors.get(operation).sum(), elapsed)));
+        report.put("operations", operations);
+
+        Path json = settings.outputDir.resolve(name + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+        Files.writeString(settings.outputDir.resolve(name + ".txt"), table(elapsed));
+        return json;
+    }
+
+    String table(Duration elapsed) {
+        StringBuilder table = new StringBuilder(String.format("%-26s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms"));
+        histograms.forEach((operation, histogram) -> row(table, operation.name(), histogram, errors.get(operation).sum(), elapsed));
+        row(table, "TOTAL", merged(), totalErrors(), elapsed);
+        return table.toString();
+    }
+
+    private void row(StringBuilder table, String name, Histogram histogram, long errorCount, Duration elapsed) {
+        table.append(String.format("%-26s %9d %7d %9.1f", name, histogram.getTotalCount(), errorCount,
+                throughput(histogram, elapsed)));
+        for (double percentile : PERCENTILES) {
+            table.append(String.format(" %9.2f", millis(histogram.getValueAtPercentile(percentile))));
+        }
+        table.append(String.format(" %9.2f%n", millis(histogram.getMaxValue())));
+    }
+
+    private Map<String, Object> summary(Histogram histogram, long errorCount, Duration elapsed) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errorCount);
+        summary.put("throughputPerSecond", throughput(histogram, elapsed));
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile)) + "Millis",
+                    millis(histogram.getValueAtPercentile(percentile)));
+        }
+        summary.put("maxMillis", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private Histogram merged() {
+        Histogram merged = new Histogram(MAX_TRACKABLE_NANOS, 3);
+        histograms.values().forEach(merged::add);
+        return merged;
+    }
+
+    private long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static double throughput(Histogram histogram, Duration elapsed) {
+        return histogram.getTotalCount() / Math.max(elapsed.toMillis() / 1000.0, 0.001);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.five.seven.food.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the order flow traffic mix against the app and writes latency percentiles and
+ * throughput per operation to {@code target/loadtest}. Run with {@code ./mvnw -Ploadtest test-compile exec:exec}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        System.out.println("Load test: " + settings);
+
+        LocalApp app = settings.startsLocalApp() ? LocalApp.start(settings.clientApi) : null;
+        try {
+            String baseUrl = app != null ? app.baseUrl() : settings.target;
+            ObjectMapper objectMapper = new ObjectMapper();
+            LoadTestClient client = new LoadTestClient(baseUrl);
+            List<Long> productIds = new CatalogSeeder(client, objectMapper).seed();
+
+            LatencyReport report = new LatencyReport();
+            Queue<TrafficWorker.OrderTicket> activeOrders = new ConcurrentLinkedQueue<>();
+            long intervalNanos = settings.rate > 0 ? (long) (settings.concurrency * 1_000_000_000L / settings.rate) : 0;
+            long start = System.nanoTime();
+            long measureFrom = start + settings.warmup.toNanos();
+            long stopAt = measureFrom + settings.duration.toNanos();
+
+            ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency);
+            for (int i = 0; i < settings.concurrency; i++) {
+                workers.submit(new TrafficWorker(client, objectMapper, report, settings.seed + i, productIds,
+                        activeOrders, measureFrom, stopAt, intervalNanos, intervalNanos * i / settings.concurrency));
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(settings.warmup.plus(settings.duration).toSeconds() + 60, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+
+            Duration measured = Duration.ofNanos(Math.min(System.nanoTime(), stopAt) - measureFrom);
+            Path written = report.write(settings, measured);
+            System.out.print(report.table(measured));
+            System.out.println("Report written to " + written.toAbsolutePath());
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.five.seven.food.loadtest;
+
+import br.com.five.seven.food.stub.ClientApiStubBehavior;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Knobs of a load test run, read from {@code -Dloadtest.*} system properties.
+ */
+final class LoadTestSettings {
+
+    /** Base URL of an already running app, when empty the app is started locally */
+    final String target;
+    final Duration warmup;
+    final Duration duration;
+    final int concurrency;
+    /** Requests per second across all workers, 0 runs closed-loop as fast as responses come back */
+    final double rate;
+    final long seed;
+    final String label;
+    final Path outputDir;
+    /** Client API stub used by the local app */
+    final ClientApiStubBehavior clientApi;
+
+    private LoadTestSettings(String target, Duration warmup, Duration duration, int concurrency, double rate,
+                             long seed, String label, Path outputDir, ClientApiStubBehavior clientApi) {
+        this.target = target;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.seed = seed;
+        this.label = label;
+        this.outputDir = outputDir;
+        this.clientApi = clientApi;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.target", ""),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Double.parseDouble(System.getProperty("loadtest.rate", "0")),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.label", "local"),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest")),
+                ClientApiStubBehavior.instant()
+                        .withLatency(Duration.parse(System.getProperty("loadtest.client-api.median", "PT0.03S")),
+                                Duration.parse(System.getProperty("loadtest.client-api.p99", "PT0.2S")))
+                        .withErrorRate(Double.parseDouble(System.getProperty("loadtest.client-api.error-rate", "0")))
+                        .withNotFoundRatio(Double.parseDouble(System.getProperty("loadtest.client-api.not-found-ratio", "0")))
+                        .withSeed(Long.getLong("loadtest.seed", 42L)));
+    }
+
+    boolean startsLocalApp() {
+        return target.isBlank();
+    }
+
+    @Override
+    public String toString() {
+        return "target=" + (startsLocalApp() ? "local" : target) + ", warmup=" + warmup + ", duration=" + duration
+                + ", concurrency=" + concurrency + ", rate=" + (rate > 0 ? rate + "/s" : "closed-loop")
+                + ", seed=" + seed + ", label=" + label + (startsLocalApp() ? ", clientApi=[" + clientApi + "]" : "");
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.five.seven.food.loadtest;
+
+import br.com.five.seven.food.TechFoodFiveSevenApplication;
+import br.com.five.seven.food.stub.ClientApiStub;
+import br.com.five.seven.food.stub.ClientApiStubBehavior;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+
+/**
+ * The app on a random port, backed by an embedded Postgres (so the Flyway migrations run
+ * as in production) and by the in-process client API stub.
+ */
+final class LocalApp implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ClientApiStub clientApi;
+    private final ConfigurableApplicationContext context;
+
+    private LocalApp(EmbeddedPostgres postgres, ClientApiStub clientApi, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.clientApi = clientApi;
+        this.context = context;
+    }
+
+    static LocalApp start(ClientApiStubBehavior clientApiBehavior) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        ClientApiStub clientApi = ClientApiStub.start(clientApiBehavior);
+        // Command line arguments win over the profile selected in application.yml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TechFoodFiveSevenApplication.class)
+                .run("--spring.profiles.active=loadtest",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--api.client.url=" + clientApi.baseUrl(),
+                        // Every simulated client shares one address, the per-client limits would throttle the run
+                        "--orders.rate-limit.enabled=false");
+        return new LocalApp(postgres, clientApi, context);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        clientApi.close();
+        postgres.close();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.five.seven.food.loadtest;
+
+import java.util.Random;
+
+/**
+ * Traffic mix replayed by the harness, shaped after the Postman collection: totems and the
+ * menu read the catalog, kitchen and pickup monitors poll active orders, customers create
+ * orders and the kitchen moves them through their statuses.
+ */
+enum Operation {
+    MENU_PRODUCTS(20),
+    MENU_CATEGORIES(10),
+    MENU_PRODUCTS_BY_CATEGORY(15),
+    MONITOR_POLL(30),
+    CREATE_ORDER(12),
+    ADVANCE_STATUS(13);
+
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    private final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    static Operation pick(Random random) {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights do not cover roll " + roll);
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        return total;
+    }
+}
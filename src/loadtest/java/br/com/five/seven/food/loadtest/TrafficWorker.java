@@ -0,0 +1,155 @@
+package br.com.five.seven.food.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One simulated client. With a target rate each request has an intended start time and its
+ * latency is measured from it, so a slow response also counts against the requests queued
+ * behind it instead of hiding them (coordinated omission).
+ */
+final class TrafficWorker implements Runnable {
+
+    private static final String MONITOR_QUERY =
+            "/v1/orders/monitor/status?status=RECEIVED&status=IN_PREPARATION&status=READY&page=0&size=20";
+
+    private final LoadTestClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyReport report;
+    private final Random random;
+    private final List<Long> productIds;
+    private final Queue<OrderTicket> activeOrders;
+    private final long measureFromNanos;
+    private final long stopAtNanos;
+    private final long intervalNanos;
+    private final long startOffsetNanos;
+
+    TrafficWorker(LoadTestClient client, ObjectMapper objectMapper, LatencyReport report, long seed,
+                  List<Long> productIds, Queue<OrderTicket> activeOrders, long measureFromNanos, long stopAtNanos,
+                  long intervalNanos, long startOffsetNanos) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.report = report;
+        this.random = new Random(seed);
+        this.productIds = productIds;
+        this.activeOrders = activeOrders;
+        this.measureFromNanos = measureFromNanos;
+        this.stopAtNanos = stopAtNanos;
+        this.intervalNanos = intervalNanos;
+        this.startOffsetNanos = startOffsetNanos;
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime() + startOffsetNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            long intendedStart;
+            if (intervalNanos > 0) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                intendedStart = next;
+                next += intervalNanos;
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            if (intendedStart >= stopAtNanos) {
+                return;
+            }
+
+            Operation operation = Operation.pick(random);
+            if (operation == Operation.ADVANCE_STATUS && activeOrders.isEmpty()) {
+                operation = Operation.CREATE_ORDER;
+            }
+            boolean success;
+            try {
+                success = execute(operation);
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (intendedStart >= measureFromNanos) {
+                report.record(operation, System.nanoTime() - intendedStart, success);
+            }
+        }
+    }
+
+    private boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case MENU_PRODUCTS -> client.get("/v1/products").statusCode() == 200;
+            case MENU_CATEGORIES -> client.get("/v1/categories").statusCode() == 200;
+            case MENU_PRODUCTS_BY_CATEGORY -> client.get("/v1/products/categories/"
+                    + CatalogSeeder.CATEGORIES.get(random.nextInt(CatalogSeeder.CATEGORIES.size()))).statusCode() == 200;
+            case MONITOR_POLL -> client.get(MONITOR_QUERY).statusCode() == 200;
+            case CREATE_ORDER -> createOrder();
+            case ADVANCE_STATUS -> advanceStatus();
+        };
+    }
+
+    private boolean createOrder() throws IOException, InterruptedException {
+        int itemCount = 1 + random.nextInt(5);
+        List<Map<String, Object>> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(Map.of("productId", productIds.get(random.nextInt(productIds.size())),
+                    "quantity", 1 + random.nextInt(3)));
+        }
+        Map<String, Object> order = Map.of(
+                "cpfClient", String.format("%011d", Math.floorMod(random.nextLong(), 100_000_000_000L)),
+                "title", "Pedido carga",
+                "description", "Pedido gerado pelo teste de carga",
+                "items", items);
+
+        HttpResponse<String> response = client.post("/v1/orders", objectMapper.writeValueAsString(order));
+        // An unknown client is a regular answer when the stub is configured with a not-found ratio
+        if (response.statusCode() == 404) {
+            return true;
+        }
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        activeOrders.add(new OrderTicket(objectMapper.readTree(response.body()).get("id").asLong()));
+        return true;
+    }
+
+    private boolean advanceStatus() throws IOException, InterruptedException {
+        OrderTicket ticket = activeOrders.poll();
+        if (ticket == null) {
+            return client.get(MONITOR_QUERY).statusCode() == 200;
+        }
+
+        // New orders are CREATED and only move forward once sent to the kitchen
+        if (!ticket.sent) {
+            HttpResponse<String> response = client.put("/v1/orders/update-status",
+                    objectMapper.writeValueAsString(Map.of("id", ticket.id, "orderStatus", "SENT")));
+            ticket.sent = response.statusCode() == 200;
+            activeOrders.add(ticket);
+            return ticket.sent;
+        }
+
+        HttpResponse<String> response = client.put("/v1/orders/" + ticket.id + "/advance-status", null);
+        if (response.statusCode() == 200 && !response.body().endsWith("FINISHED")) {
+            activeOrders.add(ticket);
+        }
+        return response.statusCode() == 200;
+    }
+
+    static final class OrderTicket {
+        final long id;
+        boolean sent;
+
+        OrderTicket(long id) {
+            this.id = id;
+        }
+    }
+}
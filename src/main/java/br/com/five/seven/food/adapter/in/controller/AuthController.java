@@ -0,0 +1,39 @@
+package br.com.five.seven.food.adapter.in.controller;
+
+import br.com.five.seven.food.adapter.in.payload.auth.TokenResponse;
+import br.com.five.seven.food.infra.annotations.auth.SwaggerIssueToken;
+import br.com.five.seven.food.infra.security.SignedTokenService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Auth", description = "Token login for kitchen and admin clients")
+@RestController
+@RequestMapping("/v1/auth")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "orders.security.token", name = "enabled", havingValue = "true")
+public class AuthController {
+
+    private final SignedTokenService tokenService;
+
+    @SwaggerIssueToken
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponse> issueToken(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            Authentication authentication) {
+        // Only a password login issues tokens, a token cannot be used to renew itself
+        if (authentication == null || authorization == null || !authorization.regionMatches(true, 0, "Basic ", 0, 6)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(new TokenResponse(tokenService.issue(authentication), "Bearer",
+                tokenService.getTtl().toSeconds()));
+    }
+}
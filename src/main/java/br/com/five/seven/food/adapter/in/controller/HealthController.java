@@ -1,7 +1,15 @@
 package br.com.five.seven.food.adapter.in.controller;
 
+import br.com.five.seven.food.adapter.in.payload.health.ReadinessResponse;
 import br.com.five.seven.food.infra.annotations.health.SwaggerHealth;
+import br.com.five.seven.food.infra.annotations.health.SwaggerLiveness;
+import br.com.five.seven.food.infra.annotations.health.SwaggerReadiness;
+import br.com.five.seven.food.infra.health.ReadinessMonitor;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,9 +19,33 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping
 public class HealthController {
 
+    private final ApplicationAvailability availability;
+    private final ReadinessMonitor readinessMonitor;
+
+    public HealthController(ApplicationAvailability availability, ReadinessMonitor readinessMonitor) {
+        this.availability = availability;
+        this.readinessMonitor = readinessMonitor;
+    }
+
     @SwaggerHealth
     @GetMapping("/health")
     public String health() {
         return "UP!";
     }
+
+    @SwaggerLiveness
+    @GetMapping("/health/liveness")
+    public ResponseEntity<String> liveness() {
+        LivenessState state = availability.getLivenessState();
+        return ResponseEntity.status(state == LivenessState.CORRECT ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(state.name());
+    }
+
+    @SwaggerReadiness
+    @GetMapping("/health/readiness")
+    public ResponseEntity<ReadinessResponse> readiness() {
+        ReadinessResponse readiness = readinessMonitor.current();
+        return ResponseEntity.status(readiness.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(readiness);
+    }
 }
@@ -1,7 +1,9 @@
 package br.com.five.seven.food.adapter.in.controller;
 
 import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.in.payload.order.CompactOrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.order.OrderDictionaryPageResponse;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderItemsRequest;
 import br.com.five.seven.food.adapter.in.payload.order.OrderMonitorResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
@@ -17,6 +19,7 @@ import br.com.five.seven.food.infra.annotations.order.SwaggerGetAllOrdersByStatu
 import br.com.five.seven.food.infra.annotations.order.SwaggerGetOrderById;
 import br.com.five.seven.food.infra.annotations.order.SwaggerUpdateOrder;
 import br.com.five.seven.food.infra.annotations.order.SwaggerUpdateOrderStatus;
+import br.com.five.seven.food.infra.exceptions.ArchivedOrderException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.xml.bind.ValidationException;
@@ -72,6 +75,39 @@ public class OrderController {
         }
     }
 
+    // view=compact lists item products by id, a fraction of the bytes of the embedded products
+    @GetMapping(params = "view=compact")
+    public ResponseEntity<Page<CompactOrderResponse>> getAllOrdersCompact(Pageable pageable) {
+        Page<Order> orderPage = orderService.findAll(pageable);
+        return ResponseEntity.ok(orderPage.map(orderMapper::domainToCompactResponse));
+    }
+
+    @GetMapping(value = "/status", params = "view=compact")
+    public ResponseEntity<Page<CompactOrderResponse>> getAllOrdersByStatusCompact(@RequestParam List<OrderStatus> status, Pageable pageable) {
+        Page<Order> orderPage = orderService.findAllByOrderStatus(status, pageable);
+        return ResponseEntity.ok(orderPage.map(orderMapper::domainToCompactResponse));
+    }
+
+    // view=dictionary writes each product of the page once and lets items reference it by id
+    @GetMapping(params = "view=dictionary")
+    public ResponseEntity<OrderDictionaryPageResponse> getAllOrdersWithProductDictionary(Pageable pageable) {
+        return ResponseEntity.ok(orderMapper.domainPageToDictionaryResponse(orderService.findAll(pageable)));
+    }
+
+    @GetMapping(value = "/status", params = "view=dictionary")
+    public ResponseEntity<OrderDictionaryPageResponse> getAllOrdersByStatusWithProductDictionary(@RequestParam List<OrderStatus> status, Pageable pageable) {
+        return ResponseEntity.ok(orderMapper.domainPageToDictionaryResponse(orderService.findAllByOrderStatus(status, pageable)));
+    }
+
+    @GetMapping(value = "/{id}", params = "view=compact")
+    public ResponseEntity<CompactOrderResponse> getOrderByIdCompact(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(orderMapper.domainToCompactResponse(orderService.findById(id)));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/monitor/status")
     public ResponseEntity<Page<OrderMonitorResponse>> getAllOrdersByStatusForMonitor(@RequestParam List<OrderStatus> status, Pageable pageable) {
         Page<Order> orderPage = orderService.findAllByOrderStatus(status, pageable);
@@ -137,6 +173,9 @@ public class OrderController {
         try {
             orderService.deleteById(id);
             return ResponseEntity.noContent().build();
+        } catch (ArchivedOrderException e) {
+            // Answered 409 by HandlerAdvice, the order exists but is read-only
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,93 @@
+package br.com.five.seven.food.adapter.in.controller;
+
+import br.com.five.seven.food.adapter.in.export.OrderExportFormat;
+import br.com.five.seven.food.adapter.in.export.OrderExportWriter;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.in.OrderExportServiceIn;
+import br.com.five.seven.food.infra.annotations.order.SwaggerExportOrders;
+import br.com.five.seven.food.infra.export.OrderExportProperties;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+@Tag(name = "Order Export", description = "Bulk export of order history for reporting")
+@RestController
+@RequestMapping("/v1/orders")
+public class OrderExportController {
+
+    private final OrderExportServiceIn orderExportService;
+    private final OrderExportProperties properties;
+    // Each export keeps a pooled connection on its cursor while a possibly slow client reads
+    private final Semaphore exports;
+
+    public OrderExportController(OrderExportServiceIn orderExportService, OrderExportProperties properties) {
+        this.orderExportService = orderExportService;
+        this.properties = properties;
+        this.exports = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    @SwaggerExportOrders
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) List<OrderStatus> status,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        OrderExportFormat exportFormat;
+        try {
+            exportFormat = OrderExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (!from.isBefore(to)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "The export range must have a start before its end.");
+            return;
+        }
+
+        if (!exports.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfter().toSeconds()));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many exports in progress, retry later.");
+            return;
+        }
+        try {
+            stream(from, to, status, exportFormat, response);
+        } finally {
+            exports.release();
+        }
+    }
+
+    private void stream(LocalDateTime from, LocalDateTime to, List<OrderStatus> status, OrderExportFormat exportFormat,
+                        HttpServletResponse response) throws IOException {
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders-"
+                + from.toLocalDate() + "-" + to.toLocalDate() + "." + exportFormat.getExtension() + "\"");
+
+        // Each order goes straight to the response as it comes off the cursor
+        try (OrderExportWriter writer = exportFormat.writer(response.getOutputStream())) {
+            orderExportService.export(from, to, status, order -> {
+                try {
+                    writer.write(order);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
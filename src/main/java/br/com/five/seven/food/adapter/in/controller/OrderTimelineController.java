@@ -0,0 +1,55 @@
+package br.com.five.seven.food.adapter.in.controller;
+
+import br.com.five.seven.food.adapter.in.payload.order.DwellTimeResponse;
+import br.com.five.seven.food.adapter.in.payload.order.OrderStatusTransitionResponse;
+import br.com.five.seven.food.application.domain.DwellTimeStats;
+import br.com.five.seven.food.application.ports.in.OrderTimelineServiceIn;
+import br.com.five.seven.food.infra.annotations.order.SwaggerGetDwellTimes;
+import br.com.five.seven.food.infra.annotations.order.SwaggerGetOrderTimeline;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Tag(name = "Order Timeline", description = "Status history and dwell times of orders")
+@RestController
+@RequestMapping("/v1/orders")
+@RequiredArgsConstructor
+public class OrderTimelineController {
+
+    private final OrderTimelineServiceIn orderTimelineService;
+
+    @SwaggerGetOrderTimeline
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<List<OrderStatusTransitionResponse>> getOrderTimeline(@PathVariable Long id) {
+        return ResponseEntity.ok(orderTimelineService.getTimeline(id).stream()
+                .map(OrderStatusTransitionResponse::fromDomain)
+                .toList());
+    }
+
+    @SwaggerGetDwellTimes
+    @GetMapping("/dwell-times")
+    public ResponseEntity<List<DwellTimeResponse>> getDwellTimes(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean perHour) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<DwellTimeStats> stats = perHour
+                ? orderTimelineService.getDwellTimesPerHour(start, end)
+                : orderTimelineService.getDwellTimesPerStatus(start, end);
+        return ResponseEntity.ok(stats.stream().map(DwellTimeResponse::fromDomain).toList());
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.five.seven.food.adapter.in.controller;
 
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
 import br.com.five.seven.food.adapter.in.payload.products.ProductRequest;
 import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
 import br.com.five.seven.food.application.domain.Category;
@@ -37,6 +38,7 @@ public class ProductController {
 
     private final ProductServiceIn productService;
     private final CategoryServiceIn categoryService;
+    private final CatalogResponseCache catalogResponses;
 
     @Operation(summary = "Create a new product", description = "Create a new product and return the created product details.")
     @ApiResponses({
@@ -77,7 +79,7 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<List<ProductResponse>> getAllProducts() {
         List<ProductResponse> responseList = productService.getAllProducts().stream()
-                .map(ProductResponse::fromDomain)
+                .map(catalogResponses::toResponse)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responseList);
     }
@@ -89,7 +91,7 @@ public class ProductController {
     @GetMapping("/categories/{category}")
     public ResponseEntity<List<ProductResponse>> getProductsByCategory(@PathVariable String category) {
         List<ProductResponse> responseList = productService.getProductsByCategory(category).stream()
-                .map(ProductResponse::fromDomain)
+                .map(catalogResponses::toResponse)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responseList);
     }
@@ -0,0 +1,123 @@
+package br.com.five.seven.food.adapter.in.controller;
+
+import br.com.five.seven.food.adapter.in.payload.analytics.CategorySalesResponse;
+import br.com.five.seven.food.adapter.in.payload.analytics.ProductSalesResponse;
+import br.com.five.seven.food.adapter.in.payload.analytics.SalesPeriodResponse;
+import br.com.five.seven.food.application.ports.in.SalesAnalyticsServiceIn;
+import br.com.five.seven.food.infra.annotations.analytics.SwaggerGetCategorySales;
+import br.com.five.seven.food.infra.annotations.analytics.SwaggerGetDailySales;
+import br.com.five.seven.food.infra.annotations.analytics.SwaggerGetHourlySales;
+import br.com.five.seven.food.infra.annotations.analytics.SwaggerGetProductSales;
+import br.com.five.seven.food.infra.annotations.analytics.SwaggerGetTopSellers;
+import br.com.five.seven.food.infra.annotations.analytics.SwaggerRebuildSales;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Tag(name = "Sales Analytics", description = "Revenue and top sellers from the finished orders")
+@PreAuthorize("hasRole('ADMIN')")
+@RestController
+@RequestMapping("/v1/analytics/sales")
+@RequiredArgsConstructor
+public class SalesAnalyticsController {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final SalesAnalyticsServiceIn salesAnalyticsService;
+
+    @SwaggerGetDailySales
+    @GetMapping("/daily")
+    public ResponseEntity<List<SalesPeriodResponse>> getDailySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        return respond(() -> salesAnalyticsService.getRevenuePerDay(start, end).stream()
+                .map(SalesPeriodResponse::fromDomain)
+                .toList());
+    }
+
+    @SwaggerGetHourlySales
+    @GetMapping("/hourly")
+    public ResponseEntity<List<SalesPeriodResponse>> getHourlySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        return respond(() -> salesAnalyticsService.getRevenuePerHour(start, end).stream()
+                .map(SalesPeriodResponse::fromDomain)
+                .toList());
+    }
+
+    @SwaggerGetProductSales
+    @GetMapping("/products")
+    public ResponseEntity<List<ProductSalesResponse>> getProductSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        return respond(() -> salesAnalyticsService.getRevenuePerProduct(start, end).stream()
+                .map(ProductSalesResponse::fromDomain)
+                .toList());
+    }
+
+    @SwaggerGetCategorySales
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategorySalesResponse>> getCategorySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        return respond(() -> salesAnalyticsService.getRevenuePerCategory(start, end).stream()
+                .map(CategorySalesResponse::fromDomain)
+                .toList());
+    }
+
+    @SwaggerGetTopSellers
+    @GetMapping("/top-sellers")
+    public ResponseEntity<List<ProductSalesResponse>> getTopSellers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        return respond(() -> salesAnalyticsService.getTopSellers(start, end, limit).stream()
+                .map(ProductSalesResponse::fromDomain)
+                .toList());
+    }
+
+    @SwaggerRebuildSales
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuild() {
+        return ResponseEntity.ok(Map.of("orders", salesAnalyticsService.rebuild()));
+    }
+
+    private static LocalDate endOf(LocalDate to) {
+        return to != null ? to : LocalDate.now();
+    }
+
+    private static LocalDate startOf(LocalDate from, LocalDate end) {
+        return from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+    }
+
+    private static <T> ResponseEntity<T> respond(Supplier<T> query) {
+        try {
+            return ResponseEntity.ok(query.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.five.seven.food.adapter.in.export;
+
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Order;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with one line per order item, repeating the order columns. Orders without
+ * items get a single line with empty item columns. Text starting like a formula is prefixed
+ * with a quote so spreadsheets show it instead of evaluating it.
+ */
+public class CsvOrderExportWriter implements OrderExportWriter {
+
+    static final String HEADER = "order_id,created_at,updated_at,received_at,order_status,cpf_client,title,"
+            + "total_amount,product_id,product_name,quantity";
+
+    private final Writer writer;
+
+    public CsvOrderExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(Order order) throws IOException {
+        if (order.getItems().isEmpty()) {
+            writeLine(order, null);
+            return;
+        }
+        for (Item item : order.getItems()) {
+            writeLine(order, item);
+        }
+    }
+
+    private void writeLine(Order order, Item item) throws IOException {
+        writer.write(String.valueOf(order.getId()));
+        writeField(order.getCreatedAt());
+        writeField(order.getUpdatedAt());
+        writeField(order.getReceivedAt());
+        writeField(order.getOrderStatus().name());
+        writeField(order.getCpfClient());
+        writeField(order.getTitle());
+        writeField(order.getTotalAmount());
+        writeField(item != null ? item.getProduct().getId() : null);
+        writeField(item != null ? item.getProduct().getName() : null);
+        writeField(item != null ? item.getQuantity() : null);
+        writer.write("\r\n");
+    }
+
+    private void writeField(Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+        if (value instanceof String && startsLikeFormula(text)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean startsLikeFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flushes without closing the response stream, the container owns it
+        writer.flush();
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.five.seven.food.adapter.in.export;
+
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Order;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * One JSON object per line and per order, with its items nested.
+ */
+public class NdjsonOrderExportWriter implements OrderExportWriter {
+
+    private final JsonGenerator generator;
+    private boolean empty = true;
+
+    public NdjsonOrderExportWriter(JsonFactory jsonFactory, OutputStream out) throws IOException {
+        this.generator = jsonFactory.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Root values are separated by a new line instead of the default space
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void write(Order order) throws IOException {
+        empty = false;
+        generator.writeStartObject();
+        generator.writeNumberField("id", order.getId());
+        generator.writeStringField("title", order.getTitle());
+        generator.writeStringField("description", order.getDescription());
+        generator.writeStringField("orderStatus", order.getOrderStatus().name());
+        generator.writeStringField("cpfClient", order.getCpfClient());
+        generator.writeNumberField("totalAmount", order.getTotalAmount());
+        writeDateTime("receivedAt", order.getReceivedAt());
+        writeDateTime("createdAt", order.getCreatedAt());
+        writeDateTime("updatedAt", order.getUpdatedAt());
+        generator.writeArrayFieldStart("items");
+        for (Item item : order.getItems()) {
+            generator.writeStartObject();
+            generator.writeNumberField("productId", item.getProduct().getId());
+            generator.writeStringField("productName", item.getProduct().getName());
+            generator.writeNumberField("quantity", item.getQuantity());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeDateTime(String field, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Terminates the last line
+        if (!empty) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.five.seven.food.adapter.in.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum OrderExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String contentType;
+    private final String extension;
+
+    OrderExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static OrderExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format '" + value + "', use ndjson or csv.");
+        }
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public OrderExportWriter writer(OutputStream out) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonOrderExportWriter(JSON_FACTORY, out);
+            case CSV -> new CsvOrderExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.five.seven.food.adapter.in.export;
+
+import br.com.five.seven.food.application.domain.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes exported orders one at a time straight to the response, keeping nothing but a
+ * small buffer in memory. Closing flushes the buffer without closing the response stream.
+ */
+public interface OrderExportWriter extends Closeable {
+    void write(Order order) throws IOException;
+}
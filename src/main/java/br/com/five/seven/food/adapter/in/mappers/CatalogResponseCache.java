@@ -0,0 +1,119 @@
+package br.com.five.seven.food.adapter.in.mappers;
+
+import br.com.five.seven.food.adapter.in.payload.category.CategoryResponse;
+import br.com.five.seven.food.adapter.in.payload.products.ImageResponse;
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
+import br.com.five.seven.food.application.domain.Category;
+import br.com.five.seven.food.application.domain.Image;
+import br.com.five.seven.food.application.domain.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reuses the response of a catalog product or category while its content is unchanged.
+ * Every request loads fresh domain objects, so a cached response is only returned after
+ * comparing it field by field with them, which keeps it correct across instances without
+ * a catalog version. The responses are immutable, so sharing them between requests is safe.
+ */
+@Component
+public class CatalogResponseCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final int maxEntries;
+    private final Map<Long, ProductResponse> products = new ConcurrentHashMap<>();
+    private final Map<Long, CategoryResponse> categories = new ConcurrentHashMap<>();
+
+    public CatalogResponseCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public CatalogResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public ProductResponse toResponse(Product product) {
+        if (product.getId() == null) {
+            return newResponse(product);
+        }
+        ProductResponse cached = products.get(product.getId());
+        if (cached != null && matches(cached, product)) {
+            return cached;
+        }
+        ProductResponse response = newResponse(product);
+        remember(products, product.getId(), response);
+        return response;
+    }
+
+    public CategoryResponse toResponse(Category category) {
+        if (category == null) {
+            return null;
+        }
+        if (category.getId() == null) {
+            return CategoryResponse.fromDomain(category);
+        }
+        CategoryResponse cached = categories.get(category.getId());
+        if (cached != null && matches(cached, category)) {
+            return cached;
+        }
+        CategoryResponse response = CategoryResponse.fromDomain(category);
+        remember(categories, category.getId(), response);
+        return response;
+    }
+
+    private ProductResponse newResponse(Product product) {
+        return new ProductResponse(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.isActive(),
+                ImageResponse.fromDomainList(product.getImages()),
+                toResponse(product.getCategory())
+        );
+    }
+
+    private <T> void remember(Map<Long, T> cache, Long id, T response) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        // Catalogs are far smaller than the bound, reaching it means ids are churning
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(id, response);
+    }
+
+    private static boolean matches(ProductResponse cached, Product product) {
+        return Objects.equals(cached.getName(), product.getName())
+                && Objects.equals(cached.getDescription(), product.getDescription())
+                && Objects.equals(cached.getPrice(), product.getPrice())
+                && cached.isActive() == product.isActive()
+                && sameImages(cached.getImages(), product.getImages())
+                && (cached.getCategory() == null
+                    ? product.getCategory() == null
+                    : product.getCategory() != null && matches(cached.getCategory(), product.getCategory()));
+    }
+
+    private static boolean matches(CategoryResponse cached, Category category) {
+        return Objects.equals(cached.getId(), category.getId())
+                && Objects.equals(cached.getName(), category.getName())
+                && Objects.equals(cached.getActive(), category.isActive());
+    }
+
+    private static boolean sameImages(List<ImageResponse> cached, List<Image> images) {
+        if (cached.size() != images.size()) {
+            return false;
+        }
+        for (int i = 0; i < images.size(); i++) {
+            if (!Objects.equals(cached.get(i).getUrl(), images.get(i).getUrl())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
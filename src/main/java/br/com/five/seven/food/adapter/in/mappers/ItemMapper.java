@@ -1,9 +1,12 @@
 package br.com.five.seven.food.adapter.in.mappers;
 
+import br.com.five.seven.food.adapter.in.payload.item.CompactItemResponse;
 import br.com.five.seven.food.adapter.in.payload.item.ItemRequest;
 import br.com.five.seven.food.adapter.in.payload.item.ItemResponse;
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
 import br.com.five.seven.food.adapter.out.relational.entity.ItemEntity;
 import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Product;
 
 import java.util.List;
 
@@ -32,8 +35,16 @@ public interface ItemMapper {
                 .toList();
     }
 
+    default List<CompactItemResponse> domainListToCompactResponseList(List<Item> items) {
+        return items.stream()
+                .map(this::domainToCompactResponse)
+                .toList();
+    }
+
     Item requestToDomain(ItemRequest itemRequest);
     ItemEntity domainToEntity(Item item);
     Item entityToDomain(ItemEntity itemEntity);
     ItemResponse domainToResponse(Item itemResponse);
+    CompactItemResponse domainToCompactResponse(Item item);
+    ProductResponse productToResponse(Product product);
 }
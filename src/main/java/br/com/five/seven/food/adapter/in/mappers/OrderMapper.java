@@ -1,18 +1,27 @@
 package br.com.five.seven.food.adapter.in.mappers;
 
+import br.com.five.seven.food.adapter.in.payload.order.CompactOrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.order.OrderDictionaryPageResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderMonitorResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderItemsRequest;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderRequest;
 import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.ProductEntity;
 import br.com.five.seven.food.application.domain.Order;
+import org.springframework.data.domain.Page;
+
+import java.util.function.Function;
 
 public interface OrderMapper {
     Order createRequestToDomain(CreateOrderRequest createOrderRequest);
     Order updateRequestToDomain(Long id, UpdateOrderRequest updateOrderRequest);
     OrderResponse domainToResponse(Order order);
+    CompactOrderResponse domainToCompactResponse(Order order);
+    OrderDictionaryPageResponse domainPageToDictionaryResponse(Page<Order> orders);
     OrderEntity domainToEntity(Order order);
+    void copyToEntity(Order order, OrderEntity orderEntity, Function<Long, ProductEntity> productReference);
     Order entityToDomain(OrderEntity orderEntity);
     OrderMonitorResponse domainToMonitorResponse(Order order);
     Order updateOrderItemsRequestToDomain(Long id, UpdateOrderItemsRequest updateOrderItemsRequest);
@@ -1,9 +1,12 @@
 package br.com.five.seven.food.adapter.in.mappers.impl;
 
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
 import br.com.five.seven.food.adapter.in.mappers.ItemMapper;
 import br.com.five.seven.food.adapter.in.mappers.ProductMapper;
+import br.com.five.seven.food.adapter.in.payload.item.CompactItemResponse;
 import br.com.five.seven.food.adapter.in.payload.item.ItemRequest;
 import br.com.five.seven.food.adapter.in.payload.item.ItemResponse;
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
 import br.com.five.seven.food.adapter.out.relational.entity.ItemEntity;
 import br.com.five.seven.food.application.domain.Item;
 import br.com.five.seven.food.application.domain.Product;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Component;
 public class ItemMapperImpl implements ItemMapper {
 
     private final ProductMapper productMapper;
+    private final CatalogResponseCache catalogResponses;
 
     @Override
     public Item requestToDomain(ItemRequest itemRequest) {
@@ -51,8 +55,21 @@ public class ItemMapperImpl implements ItemMapper {
     @Override
     public ItemResponse domainToResponse(Item item) {
         return new ItemResponse(
-                item.getProduct().toResponse(),
+                productToResponse(item.getProduct()),
                 item.getQuantity()
         );
     }
+
+    @Override
+    public CompactItemResponse domainToCompactResponse(Item item) {
+        return new CompactItemResponse(
+                item.getProduct().getId(),
+                item.getQuantity()
+        );
+    }
+
+    @Override
+    public ProductResponse productToResponse(Product product) {
+        return catalogResponses.toResponse(product);
+    }
 }
@@ -2,19 +2,34 @@ package br.com.five.seven.food.adapter.in.mappers.impl;
 
 import br.com.five.seven.food.adapter.in.mappers.ItemMapper;
 import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.in.payload.order.CompactOrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.order.OrderDictionaryPageResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderMonitorResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderItemsRequest;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
+import br.com.five.seven.food.adapter.out.relational.entity.ItemEntity;
 import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.ProductEntity;
+import br.com.five.seven.food.application.domain.Item;
 import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
@@ -84,6 +99,44 @@ public class OrderMapperImpl implements OrderMapper {
         );
     }
 
+    @Override
+    public CompactOrderResponse domainToCompactResponse(Order order) {
+        return new CompactOrderResponse(
+                order.getId(),
+                order.getTitle(),
+                order.getDescription(),
+                order.getOrderStatus(),
+                order.getCpfClient(),
+                itemMapper.domainListToCompactResponseList(order.getItems()),
+                order.getTotalAmount(),
+                order.getReceivedAt(),
+                order.getUpdatedAt(),
+                order.getRemainingTime()
+        );
+    }
+
+    @Override
+    public OrderDictionaryPageResponse domainPageToDictionaryResponse(Page<Order> orders) {
+        List<CompactOrderResponse> content = new ArrayList<>(orders.getNumberOfElements());
+        Map<Long, ProductResponse> products = new LinkedHashMap<>();
+        for (Order order : orders.getContent()) {
+            content.add(domainToCompactResponse(order));
+            // Each product is converted once per page, however many items reference it
+            for (Item item : order.getItems()) {
+                Product product = item.getProduct();
+                products.computeIfAbsent(product.getId(), id -> itemMapper.productToResponse(product));
+            }
+        }
+        return new OrderDictionaryPageResponse(
+                content,
+                products,
+                orders.getNumber(),
+                orders.getSize(),
+                orders.getTotalElements(),
+                orders.getTotalPages()
+        );
+    }
+
     @Override
     public OrderEntity domainToEntity(Order order) {
         OrderEntity orderEntity = new OrderEntity(
@@ -99,6 +152,7 @@ public class OrderMapperImpl implements OrderMapper {
                 order.getCreatedAt(),
                 order.getUpdatedAt()
         );
+        orderEntity.setStatusChangedAt(order.getStatusChangedAt());
 
         // Map items and establish bidirectional relationship
         var items = itemMapper.domainListToEntityList(order.getItems());
@@ -108,6 +162,51 @@ public class OrderMapperImpl implements OrderMapper {
         return orderEntity;
     }
 
+    /**
+     * Writes the order onto an entity that may already be managed, instead of building a
+     * detached graph for a merge. Items that still exist keep their row, and products are
+     * only referenced by id so they are neither copied nor read again.
+     */
+    @Override
+    public void copyToEntity(Order order, OrderEntity orderEntity, Function<Long, ProductEntity> productReference) {
+        orderEntity.setTitle(order.getTitle());
+        orderEntity.setDescription(order.getDescription());
+        orderEntity.setOrderStatus(order.getOrderStatus().name());
+        orderEntity.setCpfClient(order.getCpfClient());
+        orderEntity.setTotalAmount(order.getTotalAmount());
+        orderEntity.setReceivedAt(order.getReceivedAt());
+        orderEntity.setRemainingTime(order.getRemainingTime());
+        orderEntity.setCreatedAt(order.getCreatedAt());
+        orderEntity.setUpdatedAt(order.getUpdatedAt());
+        orderEntity.setStatusChangedAt(order.getStatusChangedAt());
+
+        Map<Long, ItemEntity> currentItems = new HashMap<>();
+        for (ItemEntity itemEntity : orderEntity.getItems()) {
+            if (itemEntity.getId() != null) {
+                currentItems.put(itemEntity.getId(), itemEntity);
+            }
+        }
+
+        List<ItemEntity> items = new ArrayList<>(order.getItems().size());
+        for (Item item : order.getItems()) {
+            Long productId = item.getProduct().getId();
+            ItemEntity itemEntity = item.getId() != null ? currentItems.get(item.getId()) : null;
+            if (itemEntity == null) {
+                itemEntity = new ItemEntity(null, productReference.apply(productId), item.getQuantity(), orderEntity);
+            } else {
+                if (!Objects.equals(itemEntity.getProduct().getId(), productId)) {
+                    itemEntity.setProduct(productReference.apply(productId));
+                }
+                itemEntity.setQuantity(item.getQuantity());
+            }
+            items.add(itemEntity);
+        }
+
+        // The managed collection is changed in place so orphan removal deletes the dropped items
+        orderEntity.getItems().clear();
+        items.forEach(orderEntity::addItem);
+    }
+
     @Override
     public Order entityToDomain(OrderEntity orderEntity) {
         Order order = new Order(
@@ -122,6 +221,7 @@ public class OrderMapperImpl implements OrderMapper {
                 orderEntity.getCreatedAt(),
                 orderEntity.getUpdatedAt()
         );
+        order.setStatusChangedAt(orderEntity.getStatusChangedAt());
 
         // Map items and establish bidirectional relationship
         var items = itemMapper.entityListToDomainList(orderEntity.getItems());
@@ -0,0 +1,27 @@
+package br.com.five.seven.food.adapter.in.payload.analytics;
+
+import br.com.five.seven.food.application.domain.CategorySales;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySalesResponse {
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private long quantity;
+
+    private BigDecimal revenue;
+
+    public static CategorySalesResponse fromDomain(CategorySales sales) {
+        return new CategorySalesResponse(sales.getCategoryId(), sales.getCategoryName(), sales.getQuantity(),
+                sales.getRevenue().toBigDecimal());
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.five.seven.food.adapter.in.payload.analytics;
+
+import br.com.five.seven.food.application.domain.ProductSales;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSalesResponse {
+
+    private Long productId;
+
+    private String productName;
+
+    private long quantity;
+
+    private BigDecimal revenue;
+
+    public static ProductSalesResponse fromDomain(ProductSales sales) {
+        return new ProductSalesResponse(sales.getProductId(), sales.getProductName(), sales.getQuantity(),
+                sales.getRevenue().toBigDecimal());
+    }
+}
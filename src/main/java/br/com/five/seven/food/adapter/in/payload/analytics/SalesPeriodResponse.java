@@ -0,0 +1,30 @@
+package br.com.five.seven.food.adapter.in.payload.analytics;
+
+import br.com.five.seven.food.application.domain.SalesPeriod;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPeriodResponse {
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime start;
+
+    private long orders;
+
+    private BigDecimal revenue;
+
+    public static SalesPeriodResponse fromDomain(SalesPeriod period) {
+        return new SalesPeriodResponse(period.getStart(), period.getOrders(), period.getRevenue().toBigDecimal());
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.five.seven.food.adapter.in.payload.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+
+    private String accessToken;
+
+    private String tokenType;
+
+    /** Seconds until the token expires */
+    private long expiresIn;
+}
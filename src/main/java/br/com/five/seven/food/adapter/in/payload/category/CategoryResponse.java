@@ -1,25 +1,17 @@
 package br.com.five.seven.food.adapter.in.payload.category;
 
 import br.com.five.seven.food.application.domain.Category;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class CategoryResponse {
 
-    private Long id;
-    private String name;
-    private Boolean active;
+    Long id;
+    String name;
+    Boolean active;
 
     public static CategoryResponse fromDomain(Category category) {
-        CategoryResponse response = new CategoryResponse();
-        response.setId(category.getId());
-        response.setName(category.getName());
-        response.setActive(category.isActive());
-        return response;
+        return new CategoryResponse(category.getId(), category.getName(), category.isActive());
     }
 
 }
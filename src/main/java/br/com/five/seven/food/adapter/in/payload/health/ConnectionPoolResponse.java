@@ -0,0 +1,22 @@
+package br.com.five.seven.food.adapter.in.payload.health;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolResponse {
+
+    private int active;
+
+    private int idle;
+
+    private int max;
+
+    /** Threads blocked waiting for a connection */
+    private int awaiting;
+
+    private boolean saturated;
+}
@@ -0,0 +1,45 @@
+package br.com.five.seven.food.adapter.in.payload.health;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadinessResponse {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+    public static final String UNKNOWN = "UNKNOWN";
+    public static final String DEGRADED = "DEGRADED";
+
+    /** UP only when availability, database and connection pool all allow traffic */
+    private String status;
+
+    /** REFUSING_TRAFFIC during the warm-up and on shutdown */
+    private String availability;
+
+    private String database;
+
+    /** Null when the DataSource is not a Hikari pool */
+    private ConnectionPoolResponse connectionPool;
+
+    /** Reported only, a failing client API never takes the pod out of service */
+    private String clientApi;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime checkedAt;
+
+    @JsonIgnore
+    public boolean isReady() {
+        return UP.equals(status);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.five.seven.food.adapter.in.payload.item;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactItemResponse {
+
+    private Long productId;
+    private Integer quantity;
+}
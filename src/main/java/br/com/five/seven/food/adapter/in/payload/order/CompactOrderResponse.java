@@ -0,0 +1,52 @@
+package br.com.five.seven.food.adapter.in.payload.order;
+
+import br.com.five.seven.food.adapter.in.payload.item.CompactItemResponse;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order returned with {@code view=compact}: items reference products by id instead of
+ * embedding them, clients resolve them against {@code /v1/products}. Null fields are
+ * omitted, the full {@link OrderResponse} keeps writing them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactOrderResponse {
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private OrderStatus orderStatus;
+
+    private String client;
+
+    private List<CompactItemResponse> items = new ArrayList<>();
+
+    private BigDecimal totalAmount;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime receivedAt;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    private String remainingTime;
+}
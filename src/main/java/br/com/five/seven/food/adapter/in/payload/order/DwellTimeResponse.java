@@ -0,0 +1,50 @@
+package br.com.five.seven.food.adapter.in.payload.order;
+
+import br.com.five.seven.food.application.domain.DwellTimeStats;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DwellTimeResponse {
+
+    private OrderStatus status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime hour;
+
+    private long samples;
+
+    private Long p50Seconds;
+
+    private Long p95Seconds;
+
+    private Long p99Seconds;
+
+    public static DwellTimeResponse fromDomain(DwellTimeStats stats) {
+        return new DwellTimeResponse(
+                stats.getStatus(),
+                stats.getHourStart(),
+                stats.getSamples(),
+                toSeconds(stats.getP50()),
+                toSeconds(stats.getP95()),
+                toSeconds(stats.getP99())
+        );
+    }
+
+    private static Long toSeconds(Duration duration) {
+        return duration != null ? duration.toSeconds() : null;
+    }
+}
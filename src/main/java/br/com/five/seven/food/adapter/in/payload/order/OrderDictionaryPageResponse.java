@@ -0,0 +1,33 @@
+package br.com.five.seven.food.adapter.in.payload.order;
+
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page of orders returned with {@code view=dictionary}: each product referenced by the
+ * items of the page is written once in {@code products}, keyed by its id.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDictionaryPageResponse {
+
+    private List<CompactOrderResponse> content = new ArrayList<>();
+
+    private Map<Long, ProductResponse> products = new LinkedHashMap<>();
+
+    private int number;
+
+    private int size;
+
+    private long totalElements;
+
+    private int totalPages;
+}
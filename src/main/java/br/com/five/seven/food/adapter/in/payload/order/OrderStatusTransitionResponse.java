@@ -0,0 +1,37 @@
+package br.com.five.seven.food.adapter.in.payload.order;
+
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusTransitionResponse {
+
+    private OrderStatus fromStatus;
+
+    private OrderStatus toStatus;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime changedAt;
+
+    private long dwellSeconds;
+
+    public static OrderStatusTransitionResponse fromDomain(OrderStatusTransition transition) {
+        return new OrderStatusTransitionResponse(
+                transition.getFromStatus(),
+                transition.getToStatus(),
+                transition.getChangedAt(),
+                transition.getDwell().toSeconds()
+        );
+    }
+}
@@ -1,17 +1,13 @@
 package br.com.five.seven.food.adapter.in.payload.products;
 
 import br.com.five.seven.food.application.domain.Image;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class ImageResponse {
-    private String url;
+    String url;
 
     public static List<ImageResponse> fromDomainList(List<Image> images) {
         return images.stream()
@@ -20,8 +16,6 @@ public class ImageResponse {
     }
 
     private static ImageResponse fromDomain(Image image) {
-        ImageResponse response = new ImageResponse();
-        response.setUrl(image.getUrl());
-        return response;
+        return new ImageResponse(image.getUrl());
     }
 }
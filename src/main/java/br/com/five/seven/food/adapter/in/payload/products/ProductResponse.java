@@ -2,35 +2,42 @@ package br.com.five.seven.food.adapter.in.payload.products;
 
 import br.com.five.seven.food.adapter.in.payload.category.CategoryResponse;
 import br.com.five.seven.food.application.domain.Product;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.math.BigDecimal;
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class ProductResponse {
 
-    private Long id;
-    private String name;
-    private String description;
-    private BigDecimal price;
-    private boolean active;
-    private List<ImageResponse> images;
-    private CategoryResponse category;
+    Long id;
+    String name;
+    String description;
+    BigDecimal price;
+    boolean active;
+    List<ImageResponse> images;
+    CategoryResponse category;
+
+    public ProductResponse(Long id, String name, String description, BigDecimal price, boolean active,
+                           List<ImageResponse> images, CategoryResponse category) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.active = active;
+        this.images = images == null ? List.of() : List.copyOf(images);
+        this.category = category;
+    }
 
     public static ProductResponse fromDomain(Product createdProduct) {
-        ProductResponse response = new ProductResponse();
-        response.setId(createdProduct.getId());
-        response.setName(createdProduct.getName());
-        response.setDescription(createdProduct.getDescription());
-        response.setPrice(createdProduct.getPrice());
-        response.setActive(createdProduct.isActive());
-        response.setImages(ImageResponse.fromDomainList(createdProduct.getImages()));
-        response.setCategory(CategoryResponse.fromDomain(createdProduct.getCategory()));
-        return response;
+        return new ProductResponse(
+                createdProduct.getId(),
+                createdProduct.getName(),
+                createdProduct.getDescription(),
+                createdProduct.getPrice(),
+                createdProduct.isActive(),
+                ImageResponse.fromDomainList(createdProduct.getImages()),
+                CategoryResponse.fromDomain(createdProduct.getCategory())
+        );
     }
 }
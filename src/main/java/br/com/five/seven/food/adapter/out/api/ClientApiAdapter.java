@@ -4,31 +4,56 @@ import br.com.five.seven.food.adapter.out.api.client.ClientApiClient;
 import br.com.five.seven.food.adapter.out.api.response.ClientResponse;
 import br.com.five.seven.food.application.ports.out.IClientApiOut;
 import feign.FeignException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class ClientApiAdapter implements IClientApiOut {
 
+    static final String METRIC_NAME = "client.api.requests";
+
     private final ClientApiClient clientApiClient;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
 
-    public ClientApiAdapter(ClientApiClient clientApiClient) {
+    public ClientApiAdapter(ClientApiClient clientApiClient, MeterRegistry meterRegistry) {
         this.clientApiClient = clientApiClient;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public Optional<ClientResponse> getClientByCpf(String cpf) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             ClientResponse response = clientApiClient.getClientByCpf(cpf);
+            outcome = "success";
+            consecutiveFailures.set(0);
             return Optional.ofNullable(response);
         } catch (FeignException.NotFound e) {
+            outcome = "not_found";
+            consecutiveFailures.set(0);
             return Optional.empty();
         } catch (FeignException e) {
+            consecutiveFailures.incrementAndGet();
             throw new RuntimeException("Error communicating with Client API", e);
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Calls to the users service client API")
+                    .tag("operation", "getClientByCpf")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
-}
 
+    /**
+     * Calls that failed in a row since the last answer from the users service, read by the readiness check.
+     */
+    public int consecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+}
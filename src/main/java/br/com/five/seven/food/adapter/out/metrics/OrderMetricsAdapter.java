@@ -0,0 +1,48 @@
+package br.com.five.seven.food.adapter.out.metrics;
+
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.out.IOrderMetricsOut;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class OrderMetricsAdapter implements IOrderMetricsOut {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter ordersCreated;
+
+    public OrderMetricsAdapter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.ordersCreated = Counter.builder("orders.created")
+                .description("Orders accepted by the service")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void orderCreated(Order order) {
+        ordersCreated.increment();
+    }
+
+    @Override
+    public void statusChanged(OrderStatus from, OrderStatus to, Duration timeInPreviousStatus) {
+        Counter.builder("orders.status.transitions")
+                .description("Order status changes")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
+
+        if (!timeInPreviousStatus.isNegative()) {
+            Timer.builder("orders.status.dwell")
+                    .description("Time an order spent in a status before leaving it")
+                    .tag("status", from.name())
+                    .register(meterRegistry)
+                    .record(timeInPreviousStatus);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.five.seven.food.adapter.out.metrics;
+
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes how many orders currently sit in each active status. The gauges read cached values
+ * refreshed on a schedule, so scraping never runs a query.
+ * <p>
+ * {@link OrderStatus#FINISHED} is left out: finished orders are moved to the archive table, so a
+ * count of the active table would drop every time the archiver runs.
+ */
+@Component
+public class OrderStatusGauges {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusGauges.class);
+
+    private final IOrderRepositoryOut orderRepository;
+    private final Map<OrderStatus, AtomicLong> counts = new EnumMap<>(OrderStatus.class);
+
+    public OrderStatusGauges(IOrderRepositoryOut orderRepository, MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        for (OrderStatus status : OrderStatus.values()) {
+            if (status == OrderStatus.FINISHED) {
+                continue;
+            }
+            AtomicLong count = new AtomicLong();
+            counts.put(status, count);
+            Gauge.builder("orders.current", count, AtomicLong::get)
+                    .description("Orders currently in each active status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.metrics.status-gauge-refresh:PT30S}")
+    public void refresh() {
+        try {
+            Map<OrderStatus, Long> current = orderRepository.countByOrderStatus();
+            counts.forEach((status, count) -> count.set(current.getOrDefault(status, 0L)));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh order status gauges: {}", e.getMessage());
+        }
+    }
+}
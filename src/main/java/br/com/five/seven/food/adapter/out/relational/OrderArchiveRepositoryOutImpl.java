@@ -0,0 +1,43 @@
+package br.com.five.seven.food.adapter.out.relational;
+
+import br.com.five.seven.food.adapter.out.relational.entity.ArchivedOrderEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.repository.ArchivedOrderRepository;
+import br.com.five.seven.food.adapter.out.relational.repository.OrderRepository;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.out.IOrderArchiveOut;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class OrderArchiveRepositoryOutImpl implements IOrderArchiveOut {
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public OrderArchiveRepositoryOutImpl(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    @Override
+    @Transactional
+    public int archiveFinishedBefore(LocalDateTime finishedBefore, int batchSize) {
+        List<OrderEntity> batch = orderRepository.findByOrderStatusAndUpdatedAtBefore(
+                OrderStatus.FINISHED.name(), finishedBefore, PageRequest.of(0, batchSize, Sort.by("updatedAt")));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedOrderRepository.saveAll(batch.stream()
+                .map(order -> ArchivedOrderEntity.from(order, archivedAt))
+                .toList());
+        orderRepository.deleteAll(batch);
+        return batch.size();
+    }
+}
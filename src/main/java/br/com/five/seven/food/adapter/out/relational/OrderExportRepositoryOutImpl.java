@@ -0,0 +1,113 @@
+package br.com.five.seven.food.adapter.out.relational;
+
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.out.IOrderExportOut;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads orders with a forward-only cursor instead of JPA pages: the driver only keeps
+ * {@link #FETCH_SIZE} rows in memory and no count query runs. Postgres only honours the
+ * fetch size inside a transaction, hence the read-only transaction around the export.
+ */
+@Component
+public class OrderExportRepositoryOutImpl implements IOrderExportOut {
+
+    static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderExportRepositoryOutImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOrders(LocalDateTime from, LocalDateTime to, List<OrderStatus> statuses, Consumer<Order> consumer) {
+        // Archived orders are the older ones, ids never repeat between both tables
+        stream("orders_archive", "order_items_archive", from, to, statuses, consumer);
+        stream("orders", "order_items", from, to, statuses, consumer);
+    }
+
+    private void stream(String ordersTable, String itemsTable, LocalDateTime from, LocalDateTime to,
+                        List<OrderStatus> statuses, Consumer<Order> consumer) {
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(from));
+        args.add(Timestamp.valueOf(to));
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT o.id, o.title, o.description, o.order_status, o.cpf_client, o.total_amount, ")
+                .append("o.received_at, o.created_at, o.updated_at, i.product_id, p.name AS product_name, i.quantity ")
+                .append("FROM ").append(ordersTable).append(" o ")
+                .append("LEFT JOIN ").append(itemsTable).append(" i ON i.order_id = o.id ")
+                .append("LEFT JOIN products p ON p.id = i.product_id ")
+                .append("WHERE o.created_at >= ? AND o.created_at < ?");
+        if (!statuses.isEmpty()) {
+            sql.append(" AND o.order_status IN (").append(String.join(", ", Collections.nCopies(statuses.size(), "?"))).append(")");
+            statuses.forEach(status -> args.add(status.name()));
+        }
+        sql.append(" ORDER BY o.id, i.id");
+
+        OrderRowAssembler assembler = new OrderRowAssembler(consumer);
+        jdbcTemplate.query(sql.toString(), assembler, args.toArray());
+        assembler.finish();
+    }
+
+    /**
+     * Rows arrive ordered by order id, so an order is complete as soon as the id changes.
+     */
+    private static final class OrderRowAssembler implements RowCallbackHandler {
+        private final Consumer<Order> consumer;
+        private Order current;
+
+        private OrderRowAssembler(Consumer<Order> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || current.getId() != id) {
+                finish();
+                current = new Order(id, rs.getString("title"), rs.getString("description"),
+                        OrderStatus.valueOf(rs.getString("order_status")), rs.getString("cpf_client"),
+                        new ArrayList<>(), rs.getBigDecimal("total_amount"), toLocalDateTime(rs.getTimestamp("received_at")),
+                        toLocalDateTime(rs.getTimestamp("created_at")), toLocalDateTime(rs.getTimestamp("updated_at")));
+            }
+
+            long productId = rs.getLong("product_id");
+            if (!rs.wasNull()) {
+                Product product = new Product();
+                product.setId(productId);
+                product.setName(rs.getString("product_name"));
+                current.getItems().add(new Item(null, product, rs.getInt("quantity"), current));
+            }
+        }
+
+        private void finish() {
+            if (current != null) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+
+        private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime() : null;
+        }
+    }
+}
@@ -1,36 +1,56 @@
 package br.com.five.seven.food.adapter.out.relational;
 
 import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.out.relational.entity.ArchivedOrderEntity;
 import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.repository.ArchivedOrderRepository;
 import br.com.five.seven.food.adapter.out.relational.repository.OrderRepository;
+import br.com.five.seven.food.adapter.out.relational.repository.ProductRepository;
 import br.com.five.seven.food.application.domain.Order;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
 import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import br.com.five.seven.food.infra.exceptions.ArchivedOrderException;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Component
 public class OrderRepositoryOutImpl implements IOrderRepositoryOut {
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ProductRepository productRepository;
     private final OrderMapper orderMapper;
 
-    public OrderRepositoryOutImpl(OrderRepository orderRepository, OrderMapper orderMapper) {
+    public OrderRepositoryOutImpl(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                                  ProductRepository productRepository, OrderMapper orderMapper) {
         this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.productRepository = productRepository;
         this.orderMapper = orderMapper;
     }
 
-    private OrderEntity toEntity(Order order) {
-        return orderMapper.domainToEntity(order);
-    }
-
     private Order toDomain(OrderEntity entity) {
         return orderMapper.entityToDomain(entity);
     }
 
+    private Order toDomain(ArchivedOrderEntity entity) {
+        return orderMapper.entityToDomain(entity.toOrderEntity());
+    }
+
+    /**
+     * Active orders only, archived ones are read through a FINISHED status filter or by id.
+     */
     @Override
     public Page<Order> findAll(Pageable pageable) {
         return orderRepository.findAll(pageable).map(this::toDomain);
@@ -39,23 +59,48 @@ public class OrderRepositoryOutImpl implements IOrderRepositoryOut {
     @Override
     public Page<Order> findAllByOrderStatus(List<OrderStatus> orderStatus, Pageable pageable) {
         List<String> statusNames = orderStatus.stream().map(Enum::name).toList();
-        return orderRepository.findAll(pageable)
-                .map(this::toDomain)
-                .map(order -> statusNames.contains(order.getOrderStatus().name()) ? order : null);
+        // Only finished orders are ever archived, so other statuses never touch the archive table
+        if (!orderStatus.contains(OrderStatus.FINISHED)) {
+            return orderRepository.findByOrderStatusIn(statusNames, pageable).map(this::toDomain);
+        }
+        return withArchived(statusNames, pageable);
     }
 
     @Override
     public Order findById(Long id) {
-        return orderRepository.findById(id).map(this::toDomain).orElse(null);
+        return orderRepository.findById(id)
+                .map(this::toDomain)
+                .or(() -> archivedOrderRepository.findById(id).map(this::toDomain))
+                .orElse(null);
     }
 
+    /**
+     * New orders are persisted, existing ones are changed on their managed entity, which the
+     * persistence context usually already holds from the read that preceded the change.
+     * Archived orders are read-only, saving one would insert a copy as a new active order.
+     */
     @Override
+    @Transactional
     public Order save(Order order) {
-        return toDomain(orderRepository.save(toEntity(order)));
+        OrderEntity entity = order.getId() != null ? orderRepository.findById(order.getId()).orElse(null) : null;
+        if (entity == null && order.getId() != null && archivedOrderRepository.existsById(order.getId())) {
+            throw new ArchivedOrderException(order.getId());
+        }
+        if (entity == null) {
+            entity = new OrderEntity();
+            orderMapper.copyToEntity(order, entity, productRepository::getReferenceById);
+            entity = orderRepository.save(entity);
+        } else {
+            orderMapper.copyToEntity(order, entity, productRepository::getReferenceById);
+        }
+        return toDomain(entity);
     }
 
     @Override
     public void delete(Long id) {
+        if (!orderRepository.existsById(id) && archivedOrderRepository.existsById(id)) {
+            throw new ArchivedOrderException(id);
+        }
         orderRepository.deleteById(id);
     }
 
@@ -63,5 +108,78 @@ public class OrderRepositoryOutImpl implements IOrderRepositoryOut {
     public Order update(Order order) {
         return save(order);
     }
-}
 
+    @Override
+    public Map<OrderStatus, Long> countByOrderStatus() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : orderRepository.countGroupedByOrderStatus()) {
+            counts.put(OrderStatus.valueOf((String) row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * History read over the hot and archive tables. Unsorted pages list the active orders first
+     * and continue into the archive, newest archived first so its offsets are stable. Sorted pages merge the first offset + size rows of both
+     * tables in the caller's order, so deep sorted pages cost as many rows as they skip. The
+     * archive is never counted, its share of the total is the planner estimate.
+     */
+    private Page<Order> withArchived(List<String> statusNames, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<OrderEntity> entities = new ArrayList<>(orderRepository.findByOrderStatusIn(statusNames, pageable).getContent());
+            archivedOrderRepository.findAll(pageable.getSort()).forEach(entity -> entities.add(entity.toOrderEntity()));
+            if (pageable.getSort().isSorted()) {
+                entities.sort(comparator(pageable.getSort()));
+            }
+            List<Order> content = entities.stream().map(this::toDomain).toList();
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        long archiveTotal = estimatedArchiveCount();
+        if (pageable.getSort().isUnsorted()) {
+            Page<OrderEntity> active = orderRepository.findByOrderStatusIn(statusNames, pageable);
+            List<Order> content = new ArrayList<>(active.getContent().stream().map(this::toDomain).toList());
+            int missing = pageable.getPageSize() - content.size();
+            if (missing > 0 && archiveTotal > 0) {
+                long archiveOffset = Math.max(0, pageable.getOffset() - active.getTotalElements());
+                archivedOrderRepository.findAllBy(new OffsetPageable(archiveOffset, missing, Sort.by(Sort.Direction.DESC, "id")))
+                        .forEach(entity -> content.add(toDomain(entity)));
+            }
+            return new PageImpl<>(content, pageable, active.getTotalElements() + archiveTotal);
+        }
+
+        int window = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        Pageable head = PageRequest.of(0, window, pageable.getSort());
+        Page<OrderEntity> active = orderRepository.findByOrderStatusIn(statusNames, head);
+        List<OrderEntity> merged = new ArrayList<>(active.getContent());
+        archivedOrderRepository.findAllBy(head).forEach(entity -> merged.add(entity.toOrderEntity()));
+        List<Order> content = merged.stream()
+                .sorted(comparator(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::toDomain)
+                .toList();
+        return new PageImpl<>(content, pageable, active.getTotalElements() + archiveTotal);
+    }
+
+    private long estimatedArchiveCount() {
+        long estimate = archivedOrderRepository.estimateCount();
+        // Never analyzed yet, the archive is still young enough to count
+        return estimate >= 0 ? estimate : archivedOrderRepository.count();
+    }
+
+    /**
+     * Same order as the database applies to each table: nulls last ascending, first descending.
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<OrderEntity> comparator(Sort sort) {
+        Comparator<OrderEntity> comparator = (first, second) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<OrderEntity> byProperty = Comparator.comparing(
+                    entity -> (Comparable<Object>) new BeanWrapperImpl(entity).getPropertyValue(order.getProperty()),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+}
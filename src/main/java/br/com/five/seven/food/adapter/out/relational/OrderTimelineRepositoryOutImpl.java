@@ -0,0 +1,74 @@
+package br.com.five.seven.food.adapter.out.relational;
+
+import br.com.five.seven.food.adapter.out.relational.entity.OrderDwellRollupEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.OrderStatusTransitionEntity;
+import br.com.five.seven.food.adapter.out.relational.repository.OrderDwellRollupRepository;
+import br.com.five.seven.food.adapter.out.relational.repository.OrderStatusTransitionRepository;
+import br.com.five.seven.food.application.domain.DwellHistogram;
+import br.com.five.seven.food.application.domain.DwellRollup;
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.out.IOrderTimelineOut;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Component
+public class OrderTimelineRepositoryOutImpl implements IOrderTimelineOut {
+    private final OrderStatusTransitionRepository transitionRepository;
+    private final OrderDwellRollupRepository rollupRepository;
+
+    public OrderTimelineRepositoryOutImpl(OrderStatusTransitionRepository transitionRepository,
+                                          OrderDwellRollupRepository rollupRepository) {
+        this.transitionRepository = transitionRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Override
+    @Transactional
+    public void append(OrderStatusTransition transition) {
+        transitionRepository.save(new OrderStatusTransitionEntity(
+                transition.getOrderId(),
+                transition.getFromStatus().name(),
+                transition.getToStatus().name(),
+                transition.getChangedAt(),
+                transition.getDwell().toMillis()));
+        rollupRepository.increment(
+                transition.getFromStatus().name(),
+                transition.getChangedAt().truncatedTo(ChronoUnit.HOURS),
+                DwellHistogram.bucketOf(transition.getDwell()));
+    }
+
+    @Override
+    public List<OrderStatusTransition> findByOrderId(Long orderId) {
+        return transitionRepository.findByOrderIdOrderByChangedAtAsc(orderId).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<DwellRollup> findRollups(LocalDateTime fromHour, LocalDateTime toHour) {
+        return rollupRepository.findByIdHourStartBetween(fromHour, toHour).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private OrderStatusTransition toDomain(OrderStatusTransitionEntity entity) {
+        return new OrderStatusTransition(
+                entity.getOrderId(),
+                OrderStatus.valueOf(entity.getFromStatus()),
+                OrderStatus.valueOf(entity.getToStatus()),
+                entity.getChangedAt(),
+                Duration.ofMillis(entity.getDwellMillis()));
+    }
+
+    private DwellRollup toDomain(OrderDwellRollupEntity entity) {
+        OrderDwellRollupEntity.Key key = entity.getId();
+        return new DwellRollup(OrderStatus.valueOf(key.getStatus()), key.getHourStart(), key.getBucket(),
+                entity.getSampleCount());
+    }
+}
@@ -47,8 +47,7 @@ public class ProductRepositoryOutImpl implements IProductRepositoryOut {
 
     @Override
     public List<Product> getByCategory(String categoryName) {
-        return productRepository.findAll().stream()
-                .filter(p -> p.getCategory() != null && p.getCategory().getName().equalsIgnoreCase(categoryName))
+        return productRepository.findByCategoryNameIgnoreCase(categoryName).stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,166 @@
+package br.com.five.seven.food.adapter.out.relational;
+
+import br.com.five.seven.food.application.domain.CategorySales;
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Money;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
+import br.com.five.seven.food.application.domain.ProductSales;
+import br.com.five.seven.food.application.domain.SalesPeriod;
+import br.com.five.seven.food.application.ports.out.ISalesRollupOut;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sales counters updated with one upsert per table as each order finishes, so analytics
+ * read a few rows per day instead of aggregating orders and items. Item revenue uses the
+ * product price at the moment the order finished, items do not keep their own price.
+ */
+@Component
+public class SalesRollupRepositoryOutImpl implements ISalesRollupOut {
+
+    private static final String CLAIM_ORDER = "INSERT INTO sales_rollup_orders (order_id, finished_at) VALUES (?, ?) "
+            + "ON CONFLICT (order_id) DO NOTHING";
+    private static final String UPSERT_DAILY = "INSERT INTO sales_daily (day, orders, revenue_cents) VALUES (?, 1, ?) "
+            + "ON CONFLICT (day) DO UPDATE SET orders = sales_daily.orders + 1, "
+            + "revenue_cents = sales_daily.revenue_cents + EXCLUDED.revenue_cents";
+    private static final String UPSERT_HOURLY = "INSERT INTO sales_hourly (hour_start, orders, revenue_cents) VALUES (?, 1, ?) "
+            + "ON CONFLICT (hour_start) DO UPDATE SET orders = sales_hourly.orders + 1, "
+            + "revenue_cents = sales_hourly.revenue_cents + EXCLUDED.revenue_cents";
+    private static final String UPSERT_PRODUCT = "INSERT INTO sales_product_daily (day, product_id, product_name, quantity, revenue_cents) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (day, product_id) DO UPDATE SET product_name = EXCLUDED.product_name, "
+            + "quantity = sales_product_daily.quantity + EXCLUDED.quantity, "
+            + "revenue_cents = sales_product_daily.revenue_cents + EXCLUDED.revenue_cents";
+    private static final String UPSERT_CATEGORY = "INSERT INTO sales_category_daily (day, category_id, category_name, quantity, revenue_cents) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (day, category_id) DO UPDATE SET category_name = EXCLUDED.category_name, "
+            + "quantity = sales_category_daily.quantity + EXCLUDED.quantity, "
+            + "revenue_cents = sales_category_daily.revenue_cents + EXCLUDED.revenue_cents";
+
+    // Finished orders and their items across the hot and the archive tables
+    private static final String FINISHED = "WITH finished AS ("
+            + "SELECT id, COALESCE(status_changed_at, updated_at) AS finished_at, total_amount FROM orders WHERE order_status = 'FINISHED' "
+            + "UNION ALL "
+            + "SELECT id, COALESCE(status_changed_at, updated_at) AS finished_at, total_amount FROM orders_archive WHERE order_status = 'FINISHED'), "
+            + "items AS (SELECT order_id, product_id, quantity FROM order_items "
+            + "UNION ALL SELECT order_id, product_id, quantity FROM order_items_archive) ";
+    private static final String[] REBUILD = {
+            FINISHED + "INSERT INTO sales_daily (day, orders, revenue_cents) "
+                    + "SELECT CAST(finished_at AS DATE), count(*), sum(round(total_amount * 100)) FROM finished GROUP BY 1",
+            FINISHED + "INSERT INTO sales_hourly (hour_start, orders, revenue_cents) "
+                    + "SELECT date_trunc('hour', finished_at), count(*), sum(round(total_amount * 100)) FROM finished GROUP BY 1",
+            FINISHED + "INSERT INTO sales_product_daily (day, product_id, product_name, quantity, revenue_cents) "
+                    + "SELECT CAST(f.finished_at AS DATE), p.id, p.name, sum(i.quantity), sum(i.quantity * round(p.price * 100)) "
+                    + "FROM finished f JOIN items i ON i.order_id = f.id JOIN products p ON p.id = i.product_id "
+                    + "GROUP BY 1, p.id, p.name",
+            FINISHED + "INSERT INTO sales_category_daily (day, category_id, category_name, quantity, revenue_cents) "
+                    + "SELECT CAST(f.finished_at AS DATE), c.id, c.name, sum(i.quantity), sum(i.quantity * round(p.price * 100)) "
+                    + "FROM finished f JOIN items i ON i.order_id = f.id JOIN products p ON p.id = i.product_id "
+                    + "JOIN categories c ON c.id = p.category_id GROUP BY 1, c.id, c.name"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SalesRollupRepositoryOutImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void recordFinishedOrder(Order order, LocalDateTime finishedAt) {
+        if (jdbcTemplate.update(CLAIM_ORDER, order.getId(), Timestamp.valueOf(finishedAt)) == 0) {
+            return;
+        }
+
+        Date day = Date.valueOf(finishedAt.toLocalDate());
+        long revenue = order.getTotalAmount() != null ? Money.toCents(order.getTotalAmount()) : order.calculateTotalCents();
+        jdbcTemplate.update(UPSERT_DAILY, day, revenue);
+        jdbcTemplate.update(UPSERT_HOURLY, Timestamp.valueOf(finishedAt.truncatedTo(ChronoUnit.HOURS)), revenue);
+
+        // An order may list the same product or category more than once, one row each per statement
+        Map<Long, Object[]> products = new LinkedHashMap<>();
+        Map<Long, Object[]> categories = new LinkedHashMap<>();
+        for (Item item : order.getItems()) {
+            Product product = item.getProduct();
+            long itemRevenue = item.getTotalCents();
+            accumulate(products, product.getId(), product.getName(), day, item.getQuantity(), itemRevenue);
+            if (product.getCategory() != null) {
+                accumulate(categories, product.getCategory().getId(), product.getCategory().getName(), day,
+                        item.getQuantity(), itemRevenue);
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_PRODUCT, new ArrayList<>(products.values()));
+        jdbcTemplate.batchUpdate(UPSERT_CATEGORY, new ArrayList<>(categories.values()));
+    }
+
+    private static void accumulate(Map<Long, Object[]> rows, Long id, String name, Date day, long quantity, long revenue) {
+        Object[] row = rows.computeIfAbsent(id, key -> new Object[]{day, key, name, 0L, 0L});
+        row[3] = Math.addExact((Long) row[3], quantity);
+        row[4] = Math.addExact((Long) row[4], revenue);
+    }
+
+    @Override
+    @Transactional
+    public long rebuild() {
+        jdbcTemplate.update("DELETE FROM sales_category_daily");
+        jdbcTemplate.update("DELETE FROM sales_product_daily");
+        jdbcTemplate.update("DELETE FROM sales_hourly");
+        jdbcTemplate.update("DELETE FROM sales_daily");
+        jdbcTemplate.update("DELETE FROM sales_rollup_orders");
+
+        int orders = jdbcTemplate.update(FINISHED + "INSERT INTO sales_rollup_orders (order_id, finished_at) "
+                + "SELECT id, finished_at FROM finished");
+        for (String statement : REBUILD) {
+            jdbcTemplate.update(statement);
+        }
+        return orders;
+    }
+
+    @Override
+    public List<SalesPeriod> findDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT day, orders, revenue_cents FROM sales_daily WHERE day BETWEEN ? AND ? ORDER BY day",
+                (rs, rowNum) -> new SalesPeriod(rs.getDate("day").toLocalDate().atStartOfDay(), rs.getLong("orders"),
+                        Money.ofCents(rs.getLong("revenue_cents"))),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    public List<SalesPeriod> findHourly(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query("SELECT hour_start, orders, revenue_cents FROM sales_hourly "
+                        + "WHERE hour_start BETWEEN ? AND ? ORDER BY hour_start",
+                (rs, rowNum) -> new SalesPeriod(rs.getTimestamp("hour_start").toLocalDateTime(), rs.getLong("orders"),
+                        Money.ofCents(rs.getLong("revenue_cents"))),
+                Timestamp.valueOf(from.truncatedTo(ChronoUnit.HOURS)), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<ProductSales> findByProduct(LocalDate from, LocalDate to, boolean orderByQuantity, int limit) {
+        String order = orderByQuantity ? "quantity DESC, revenue_cents DESC" : "revenue_cents DESC, quantity DESC";
+        return jdbcTemplate.query("SELECT product_id, max(product_name) AS product_name, sum(quantity) AS quantity, "
+                        + "sum(revenue_cents) AS revenue_cents FROM sales_product_daily WHERE day BETWEEN ? AND ? "
+                        + "GROUP BY product_id ORDER BY " + order + ", product_id LIMIT ?",
+                (rs, rowNum) -> new ProductSales(rs.getLong("product_id"), rs.getString("product_name"),
+                        rs.getLong("quantity"), Money.ofCents(rs.getLong("revenue_cents"))),
+                Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    @Override
+    public List<CategorySales> findByCategory(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT category_id, max(category_name) AS category_name, sum(quantity) AS quantity, "
+                        + "sum(revenue_cents) AS revenue_cents FROM sales_category_daily WHERE day BETWEEN ? AND ? "
+                        + "GROUP BY category_id ORDER BY revenue_cents DESC, category_id",
+                (rs, rowNum) -> new CategorySales(rs.getLong("category_id"), rs.getString("category_name"),
+                        rs.getLong("quantity"), Money.ofCents(rs.getLong("revenue_cents"))),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+}
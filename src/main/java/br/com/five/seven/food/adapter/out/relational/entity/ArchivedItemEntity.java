@@ -0,0 +1,42 @@
+package br.com.five.seven.food.adapter.out.relational.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "order_items_archive")
+public class ArchivedItemEntity {
+    // Keeps the id of the original order item
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "product_id", nullable = false)
+    private ProductEntity product;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private ArchivedOrderEntity order;
+
+    public ArchivedItemEntity() {
+    }
+
+    public ArchivedItemEntity(Long id, ProductEntity product, Integer quantity, ArchivedOrderEntity order) {
+        this.id = id;
+        this.product = product;
+        this.quantity = quantity;
+        this.order = order;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public ProductEntity getProduct() { return product; }
+    public void setProduct(ProductEntity product) { this.product = product; }
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public ArchivedOrderEntity getOrder() { return order; }
+    public void setOrder(ArchivedOrderEntity order) { this.order = order; }
+}
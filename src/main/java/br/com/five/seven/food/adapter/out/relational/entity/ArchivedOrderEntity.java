@@ -0,0 +1,127 @@
+package br.com.five.seven.food.adapter.out.relational.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "orders_archive")
+public class ArchivedOrderEntity implements Persistable<Long> {
+    // Keeps the id of the original order so lookups by id keep working after archival
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private String orderStatus;
+
+    @Column()
+    private String cpfClient;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    private List<ArchivedItemEntity> items = new ArrayList<>();
+
+    @Column(nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = true)
+    private LocalDateTime receivedAt;
+
+    @Column
+    private String remainingTime;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column
+    private LocalDateTime statusChangedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public ArchivedOrderEntity() {
+    }
+
+    public static ArchivedOrderEntity from(OrderEntity order, LocalDateTime archivedAt) {
+        ArchivedOrderEntity archived = new ArchivedOrderEntity();
+        archived.id = order.getId();
+        archived.title = order.getTitle();
+        archived.description = order.getDescription();
+        archived.orderStatus = order.getOrderStatus();
+        archived.cpfClient = order.getCpfClient();
+        archived.totalAmount = order.getTotalAmount();
+        archived.receivedAt = order.getReceivedAt();
+        archived.remainingTime = order.getRemainingTime();
+        archived.createdAt = order.getCreatedAt();
+        archived.updatedAt = order.getUpdatedAt();
+        archived.statusChangedAt = order.getStatusChangedAt();
+        archived.archivedAt = archivedAt;
+        archived.isNew = true;
+        order.getItems().forEach(item -> archived.items.add(
+                new ArchivedItemEntity(item.getId(), item.getProduct(), item.getQuantity(), archived)));
+        return archived;
+    }
+
+    public OrderEntity toOrderEntity() {
+        OrderEntity order = new OrderEntity(id, title, description, orderStatus, cpfClient, null, totalAmount,
+                receivedAt, remainingTime, createdAt, updatedAt);
+        order.setStatusChangedAt(statusChangedAt);
+        items.forEach(item -> order.addItem(new ItemEntity(item.getId(), item.getProduct(), item.getQuantity(), order)));
+        return order;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    // Getters and setters
+    @Override
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public String getOrderStatus() { return orderStatus; }
+    public void setOrderStatus(String orderStatus) { this.orderStatus = orderStatus; }
+    public String getCpfClient() { return cpfClient; }
+    public void setCpfClient(String cpfClient) { this.cpfClient = cpfClient; }
+    public List<ArchivedItemEntity> getItems() { return items; }
+    public void setItems(List<ArchivedItemEntity> items) { this.items = items != null ? items : new ArrayList<>(); }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    public LocalDateTime getReceivedAt() { return receivedAt; }
+    public void setReceivedAt(LocalDateTime receivedAt) { this.receivedAt = receivedAt; }
+    public String getRemainingTime() { return remainingTime; }
+    public void setRemainingTime(String remainingTime) { this.remainingTime = remainingTime; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public LocalDateTime getStatusChangedAt() { return statusChangedAt; }
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) { this.statusChangedAt = statusChangedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+}
@@ -0,0 +1,69 @@
+package br.com.five.seven.food.adapter.out.relational.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "order_dwell_rollups")
+public class OrderDwellRollupEntity {
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Long sampleCount;
+
+    public OrderDwellRollupEntity() {
+    }
+
+    public OrderDwellRollupEntity(Key id, Long sampleCount) {
+        this.id = id;
+        this.sampleCount = sampleCount;
+    }
+
+    // Getters and setters
+    public Key getId() { return id; }
+    public void setId(Key id) { this.id = id; }
+    public Long getSampleCount() { return sampleCount; }
+    public void setSampleCount(Long sampleCount) { this.sampleCount = sampleCount; }
+
+    @Embeddable
+    public static class Key implements Serializable {
+        @Column(nullable = false)
+        private String status;
+
+        @Column(nullable = false)
+        private LocalDateTime hourStart;
+
+        @Column(nullable = false)
+        private Integer bucket;
+
+        public Key() {
+        }
+
+        public Key(String status, LocalDateTime hourStart, Integer bucket) {
+            this.status = status;
+            this.hourStart = hourStart;
+            this.bucket = bucket;
+        }
+
+        public String getStatus() { return status; }
+        public LocalDateTime getHourStart() { return hourStart; }
+        public Integer getBucket() { return bucket; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(status, key.status) && Objects.equals(hourStart, key.hourStart)
+                    && Objects.equals(bucket, key.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, hourStart, bucket);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.five.seven.food.adapter.out.relational.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_status_transitions")
+public class OrderStatusTransitionEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String fromStatus;
+
+    @Column(nullable = false)
+    private String toStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(nullable = false)
+    private Long dwellMillis;
+
+    public OrderStatusTransitionEntity() {
+    }
+
+    public OrderStatusTransitionEntity(Long orderId, String fromStatus, String toStatus, LocalDateTime changedAt, Long dwellMillis) {
+        this.orderId = orderId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedAt = changedAt;
+        this.dwellMillis = dwellMillis;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getOrderId() { return orderId; }
+    public void setOrderId(Long orderId) { this.orderId = orderId; }
+    public String getFromStatus() { return fromStatus; }
+    public void setFromStatus(String fromStatus) { this.fromStatus = fromStatus; }
+    public String getToStatus() { return toStatus; }
+    public void setToStatus(String toStatus) { this.toStatus = toStatus; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+    public Long getDwellMillis() { return dwellMillis; }
+    public void setDwellMillis(Long dwellMillis) { this.dwellMillis = dwellMillis; }
+}
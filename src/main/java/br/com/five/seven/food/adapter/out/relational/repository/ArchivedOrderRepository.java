@@ -0,0 +1,19 @@
+package br.com.five.seven.food.adapter.out.relational.repository;
+
+import br.com.five.seven.food.adapter.out.relational.entity.ArchivedOrderEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrderEntity, Long> {
+
+    // A List instead of a Page, so reading a slice of the archive never runs a count over it
+    List<ArchivedOrderEntity> findAllBy(Pageable pageable);
+
+    // Planner estimate kept by autovacuum, -1 until the table is first analyzed
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('orders_archive' AS regclass)",
+            nativeQuery = true)
+    long estimateCount();
+}
@@ -2,11 +2,14 @@ package br.com.five.seven.food.adapter.out.relational.repository;
 
 import br.com.five.seven.food.adapter.out.relational.entity.CategoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
-    Optional<CategoryEntity> findByNameIgnoreCase(String name);
+    // Spelled out with lower() so it matches idx_categories_lower_name, the derived query uses upper()
+    @Query("select c from CategoryEntity c where lower(c.name) = lower(:name)")
+    Optional<CategoryEntity> findByNameIgnoreCase(@Param("name") String name);
 }
 
-
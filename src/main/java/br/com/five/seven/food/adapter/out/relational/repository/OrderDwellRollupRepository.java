@@ -0,0 +1,24 @@
+package br.com.five.seven.food.adapter.out.relational.repository;
+
+import br.com.five.seven.food.adapter.out.relational.entity.OrderDwellRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderDwellRollupRepository extends JpaRepository<OrderDwellRollupEntity, OrderDwellRollupEntity.Key> {
+
+    // Single upsert so concurrent transitions never lose a count or race on the first insert
+    @Modifying
+    @Query(value = "INSERT INTO order_dwell_rollups (status, hour_start, bucket, sample_count) " +
+            "VALUES (:status, :hourStart, :bucket, 1) " +
+            "ON CONFLICT (status, hour_start, bucket) " +
+            "DO UPDATE SET sample_count = order_dwell_rollups.sample_count + 1", nativeQuery = true)
+    void increment(@Param("status") String status, @Param("hourStart") LocalDateTime hourStart,
+                   @Param("bucket") int bucket);
+
+    List<OrderDwellRollupEntity> findByIdHourStartBetween(LocalDateTime fromHour, LocalDateTime toHour);
+}
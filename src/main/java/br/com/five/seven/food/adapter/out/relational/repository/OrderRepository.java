@@ -1,8 +1,27 @@
 package br.com.five.seven.food.adapter.out.relational.repository;
 
 import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
-}
 
+    Page<OrderEntity> findByOrderStatusIn(List<String> orderStatus, Pageable pageable);
+
+    @Query("select o.orderStatus, count(o) from OrderEntity o group by o.orderStatus")
+    List<Object[]> countGroupedByOrderStatus();
+
+    // SKIP LOCKED (-2) lets every replica run the archive mover without picking the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OrderEntity> findByOrderStatusAndUpdatedAtBefore(String orderStatus, LocalDateTime updatedAt, Pageable pageable);
+}
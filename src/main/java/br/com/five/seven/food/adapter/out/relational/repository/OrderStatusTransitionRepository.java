@@ -0,0 +1,10 @@
+package br.com.five.seven.food.adapter.out.relational.repository;
+
+import br.com.five.seven.food.adapter.out.relational.entity.OrderStatusTransitionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderStatusTransitionRepository extends JpaRepository<OrderStatusTransitionEntity, Long> {
+    List<OrderStatusTransitionEntity> findByOrderIdOrderByChangedAtAsc(Long orderId);
+}
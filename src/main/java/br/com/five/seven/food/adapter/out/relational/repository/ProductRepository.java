@@ -2,7 +2,12 @@ package br.com.five.seven.food.adapter.out.relational.repository;
 
 import br.com.five.seven.food.adapter.out.relational.entity.ProductEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
+    @Query("select p from ProductEntity p join p.category c where lower(c.name) = lower(:categoryName)")
+    List<ProductEntity> findByCategoryNameIgnoreCase(@Param("categoryName") String categoryName);
 }
-
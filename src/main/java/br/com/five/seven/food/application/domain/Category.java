@@ -43,10 +43,6 @@ public class Category {
     }
 
     public CategoryResponse toResponse() {
-        CategoryResponse response = new CategoryResponse();
-        response.setId(this.id);
-        response.setName(this.name);
-        response.setActive(this.active);
-        return response;
+        return new CategoryResponse(this.id, this.name, this.active);
     }
 }
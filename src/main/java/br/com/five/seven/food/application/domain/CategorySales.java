@@ -0,0 +1,32 @@
+package br.com.five.seven.food.application.domain;
+
+public class CategorySales {
+
+    private final Long categoryId;
+    private final String categoryName;
+    private final long quantity;
+    private final Money revenue;
+
+    public CategorySales(Long categoryId, String categoryName, long quantity, Money revenue) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+}
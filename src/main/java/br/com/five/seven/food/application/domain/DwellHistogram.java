@@ -0,0 +1,68 @@
+package br.com.five.seven.food.application.domain;
+
+import java.time.Duration;
+
+/**
+ * Fixed-bucket histogram of dwell times. Buckets are stored as rollup counters, so
+ * percentiles are approximated by the upper bound of the bucket they fall in.
+ */
+public class DwellHistogram {
+
+    // Upper bound in seconds of each bucket, a last extra bucket collects everything above
+    private static final long[] UPPER_BOUNDS_SECONDS = {
+            30, 60, 120, 180, 300, 420, 600, 900, 1200, 1800, 2700, 3600, 5400, 7200, 10800, 21600, 43200, 86400
+    };
+
+    public static final int BUCKET_COUNT = UPPER_BOUNDS_SECONDS.length + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long total;
+
+    public static int bucketOf(Duration dwell) {
+        long seconds = Math.max(0, dwell.toSeconds());
+        for (int bucket = 0; bucket < UPPER_BOUNDS_SECONDS.length; bucket++) {
+            if (seconds <= UPPER_BOUNDS_SECONDS[bucket]) {
+                return bucket;
+            }
+        }
+        return UPPER_BOUNDS_SECONDS.length;
+    }
+
+    public void add(int bucket, long count) {
+        if (bucket < 0 || bucket >= BUCKET_COUNT) {
+            throw new IllegalArgumentException("Unknown dwell bucket " + bucket);
+        }
+        counts[bucket] += count;
+        total += count;
+    }
+
+    public void merge(DwellHistogram other) {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        total += other.total;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.95
+     * @return the upper bound of the bucket holding the quantile, or null when empty
+     */
+    public Duration percentile(double quantile) {
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Duration.ofSeconds(UPPER_BOUNDS_SECONDS[Math.min(bucket, UPPER_BOUNDS_SECONDS.length - 1)]);
+            }
+        }
+        return Duration.ofSeconds(UPPER_BOUNDS_SECONDS[UPPER_BOUNDS_SECONDS.length - 1]);
+    }
+}
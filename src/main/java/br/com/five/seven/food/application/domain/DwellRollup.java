@@ -0,0 +1,39 @@
+package br.com.five.seven.food.application.domain;
+
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of orders that left a status during an hour with a dwell time in a given histogram bucket.
+ */
+public class DwellRollup {
+
+    private final OrderStatus status;
+    private final LocalDateTime hourStart;
+    private final int bucket;
+    private final long count;
+
+    public DwellRollup(OrderStatus status, LocalDateTime hourStart, int bucket, long count) {
+        this.status = status;
+        this.hourStart = hourStart;
+        this.bucket = bucket;
+        this.count = count;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getHourStart() {
+        return hourStart;
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
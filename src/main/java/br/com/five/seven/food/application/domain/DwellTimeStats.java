@@ -0,0 +1,52 @@
+package br.com.five.seven.food.application.domain;
+
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class DwellTimeStats {
+
+    private final OrderStatus status;
+    private final LocalDateTime hourStart;
+    private final long samples;
+    private final Duration p50;
+    private final Duration p95;
+    private final Duration p99;
+
+    public DwellTimeStats(OrderStatus status, LocalDateTime hourStart, DwellHistogram histogram) {
+        this.status = status;
+        this.hourStart = hourStart;
+        this.samples = histogram.getTotal();
+        this.p50 = histogram.percentile(0.50);
+        this.p95 = histogram.percentile(0.95);
+        this.p99 = histogram.percentile(0.99);
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Start of the hour these stats cover, null for the stats of the whole requested range.
+     */
+    public LocalDateTime getHourStart() {
+        return hourStart;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public Duration getP50() {
+        return p50;
+    }
+
+    public Duration getP95() {
+        return p95;
+    }
+
+    public Duration getP99() {
+        return p99;
+    }
+}
@@ -21,8 +21,6 @@ public class Image {
     }
 
     public ImageResponse toResponse() {
-        ImageResponse response = new ImageResponse();
-        response.setUrl(this.url);
-        return response;
+        return new ImageResponse(this.url);
     }
 }
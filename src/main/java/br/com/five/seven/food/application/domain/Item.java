@@ -57,6 +57,10 @@ public class Item {
     }
 
     public BigDecimal getTotalPrice() {
-        return product.getPrice().multiply(BigDecimal.valueOf(this.quantity));
+        return BigDecimal.valueOf(getTotalCents(), 2);
+    }
+
+    public long getTotalCents() {
+        return Math.multiplyExact(product.getPriceCents(), quantity.longValue());
     }
 }
@@ -0,0 +1,58 @@
+package br.com.five.seven.food.application.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount in centavos carried by the sales rollups. Order and item totals are summed on plain
+ * longs with overflow checks, see {@link Order#calculateTotalCents()}; conversion to and from
+ * {@link BigDecimal} only happens at the API and persistence boundaries.
+ */
+public final class Money {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Rounds half up to centavos, the same rounding the numeric(38,2) columns apply.
+     *
+     * @throws ArithmeticException if the amount does not fit in a long of centavos
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money money && cents == money.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
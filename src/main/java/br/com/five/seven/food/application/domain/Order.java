@@ -18,6 +18,7 @@ public class Order extends TimeAt{
     private BigDecimal totalAmount;
     private LocalDateTime receivedAt;
     private String remainingTime;
+    private LocalDateTime statusChangedAt;
 
     public Order(Long id, String title, String description, OrderStatus orderStatus, String cpfClient, List<Item> items, BigDecimal totalAmount, LocalDateTime receivedAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
@@ -91,9 +92,20 @@ public class Order extends TimeAt{
     }
 
     public BigDecimal calculateTotalAmount() {
-        return items.stream()
-                .map(Item::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return BigDecimal.valueOf(calculateTotalCents(), 2);
+    }
+
+    /**
+     * Sum of the items in centavos, computed without allocating.
+     *
+     * @throws ArithmeticException if the total overflows
+     */
+    public long calculateTotalCents() {
+        long total = 0;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            total = Math.addExact(total, items.get(i).getTotalCents());
+        }
+        return total;
     }
 
     public LocalDateTime getReceivedAt() {
@@ -111,4 +123,15 @@ public class Order extends TimeAt{
     public void setRemainingTime(String remainingTime) {
         this.remainingTime = remainingTime;
     }
+
+    /**
+     * When the order entered its current status, used to measure how long it stays in each one.
+     */
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) {
+        this.statusChangedAt = statusChangedAt;
+    }
 }
@@ -0,0 +1,69 @@
+package br.com.five.seven.food.application.domain;
+
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class OrderStatusTransition {
+
+    private Long orderId;
+    private OrderStatus fromStatus;
+    private OrderStatus toStatus;
+    private LocalDateTime changedAt;
+    private Duration dwell;
+
+    public OrderStatusTransition(Long orderId, OrderStatus fromStatus, OrderStatus toStatus, LocalDateTime changedAt, Duration dwell) {
+        this.orderId = orderId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedAt = changedAt;
+        this.dwell = dwell;
+    }
+
+    public OrderStatusTransition() {
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public OrderStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(OrderStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public OrderStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(OrderStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    /**
+     * Time the order spent in {@link #getFromStatus()} before this transition.
+     */
+    public Duration getDwell() {
+        return dwell;
+    }
+
+    public void setDwell(Duration dwell) {
+        this.dwell = dwell;
+    }
+}
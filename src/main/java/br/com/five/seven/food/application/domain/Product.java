@@ -14,6 +14,8 @@ public class Product {
     private String name;
     private String description;
     private BigDecimal price;
+    // Cached when the price is set so order totals never go through BigDecimal
+    private long priceCents;
     private Boolean active = true;
     private List<Image> images = new ArrayList<>();
     private Category category;
@@ -48,6 +50,14 @@ public class Product {
 
     public void setPrice(BigDecimal price) {
         this.price = price;
+        this.priceCents = price != null ? Money.toCents(price) : 0;
+    }
+
+    public long getPriceCents() {
+        if (price == null) {
+            throw new IllegalStateException("Product '" + name + "' does not have a price.");
+        }
+        return priceCents;
     }
 
     public boolean isActive() {
@@ -75,16 +85,16 @@ public class Product {
     }
 
     public ProductResponse toResponse() {
-        ProductResponse response = new ProductResponse();
-        response.setId(this.id);
-        response.setName(this.name);
-        response.setDescription(this.description);
-        response.setPrice(this.price);
-        response.setActive(this.active);
-        response.setImages(this.images.stream()
-                .map(Image::toResponse)
-                .collect(Collectors.toList()));
-        response.setCategory(CategoryResponse.fromDomain(this.category));
-        return response;
+        return new ProductResponse(
+                this.id,
+                this.name,
+                this.description,
+                this.price,
+                this.active,
+                this.images.stream()
+                        .map(Image::toResponse)
+                        .collect(Collectors.toList()),
+                CategoryResponse.fromDomain(this.category)
+        );
     }
 }
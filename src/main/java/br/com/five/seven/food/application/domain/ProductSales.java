@@ -0,0 +1,32 @@
+package br.com.five.seven.food.application.domain;
+
+public class ProductSales {
+
+    private final Long productId;
+    private final String productName;
+    private final long quantity;
+    private final Money revenue;
+
+    public ProductSales(Long productId, String productName, long quantity, Money revenue) {
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+}
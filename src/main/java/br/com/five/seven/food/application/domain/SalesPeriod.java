@@ -0,0 +1,31 @@
+package br.com.five.seven.food.application.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Orders finished and revenue within a day or an hour.
+ */
+public class SalesPeriod {
+
+    private final LocalDateTime start;
+    private final long orders;
+    private final Money revenue;
+
+    public SalesPeriod(LocalDateTime start, long orders, Money revenue) {
+        this.start = start;
+        this.orders = orders;
+        this.revenue = revenue;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public long getOrders() {
+        return orders;
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.five.seven.food.application.ports.in;
+
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface OrderExportServiceIn {
+    void export(LocalDateTime from, LocalDateTime to, List<OrderStatus> statuses, Consumer<Order> consumer);
+}
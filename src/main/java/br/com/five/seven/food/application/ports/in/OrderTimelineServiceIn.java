@@ -0,0 +1,13 @@
+package br.com.five.seven.food.application.ports.in;
+
+import br.com.five.seven.food.application.domain.DwellTimeStats;
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderTimelineServiceIn {
+    List<OrderStatusTransition> getTimeline(Long orderId);
+    List<DwellTimeStats> getDwellTimesPerStatus(LocalDateTime from, LocalDateTime to);
+    List<DwellTimeStats> getDwellTimesPerHour(LocalDateTime from, LocalDateTime to);
+}
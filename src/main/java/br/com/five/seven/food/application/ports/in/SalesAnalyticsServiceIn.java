@@ -0,0 +1,18 @@
+package br.com.five.seven.food.application.ports.in;
+
+import br.com.five.seven.food.application.domain.CategorySales;
+import br.com.five.seven.food.application.domain.ProductSales;
+import br.com.five.seven.food.application.domain.SalesPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesAnalyticsServiceIn {
+    List<SalesPeriod> getRevenuePerDay(LocalDate from, LocalDate to);
+    List<SalesPeriod> getRevenuePerHour(LocalDateTime from, LocalDateTime to);
+    List<ProductSales> getRevenuePerProduct(LocalDate from, LocalDate to);
+    List<CategorySales> getRevenuePerCategory(LocalDate from, LocalDate to);
+    List<ProductSales> getTopSellers(LocalDate from, LocalDate to, int limit);
+    long rebuild();
+}
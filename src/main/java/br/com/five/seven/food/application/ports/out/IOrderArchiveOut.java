@@ -0,0 +1,15 @@
+package br.com.five.seven.food.application.ports.out;
+
+import java.time.LocalDateTime;
+
+public interface IOrderArchiveOut {
+
+    /**
+     * Moves one batch of orders that reached FINISHED before the cutoff to the archive tables
+     *
+     * @param finishedBefore only orders finished before this instant are moved
+     * @param batchSize maximum number of orders moved by this call
+     * @return the number of orders moved
+     */
+    int archiveFinishedBefore(LocalDateTime finishedBefore, int batchSize);
+}
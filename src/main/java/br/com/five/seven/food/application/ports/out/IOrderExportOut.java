@@ -0,0 +1,18 @@
+package br.com.five.seven.food.application.ports.out;
+
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface IOrderExportOut {
+
+    /**
+     * Streams every order, active or archived, created in [from, to) with one of the given
+     * statuses (all when empty) to the consumer, one at a time. Items only carry the product
+     * id and name.
+     */
+    void streamOrders(LocalDateTime from, LocalDateTime to, List<OrderStatus> statuses, Consumer<Order> consumer);
+}
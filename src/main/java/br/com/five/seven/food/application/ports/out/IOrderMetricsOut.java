@@ -0,0 +1,20 @@
+package br.com.five.seven.food.application.ports.out;
+
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+
+import java.time.Duration;
+
+public interface IOrderMetricsOut {
+
+    void orderCreated(Order order);
+
+    /**
+     * Records a status change of an order
+     *
+     * @param from the status the order is leaving
+     * @param to the status the order is entering
+     * @param timeInPreviousStatus how long the order stayed in {@code from}
+     */
+    void statusChanged(OrderStatus from, OrderStatus to, Duration timeInPreviousStatus);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface IOrderRepositoryOut {
 
@@ -21,4 +22,6 @@ public interface IOrderRepositoryOut {
 
     Order update(Order order);
 
+    Map<OrderStatus, Long> countByOrderStatus();
+
 }
@@ -0,0 +1,19 @@
+package br.com.five.seven.food.application.ports.out;
+
+import br.com.five.seven.food.application.domain.DwellRollup;
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IOrderTimelineOut {
+
+    /**
+     * Appends a transition to the status log and adds it to the hourly dwell rollups
+     */
+    void append(OrderStatusTransition transition);
+
+    List<OrderStatusTransition> findByOrderId(Long orderId);
+
+    List<DwellRollup> findRollups(LocalDateTime fromHour, LocalDateTime toHour);
+}
@@ -0,0 +1,36 @@
+package br.com.five.seven.food.application.ports.out;
+
+import br.com.five.seven.food.application.domain.CategorySales;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.ProductSales;
+import br.com.five.seven.food.application.domain.SalesPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ISalesRollupOut {
+
+    /**
+     * Adds a finished order to the rollups, an order already counted is ignored.
+     */
+    void recordFinishedOrder(Order order, LocalDateTime finishedAt);
+
+    /**
+     * Recomputes every rollup from the finished orders, active and archived.
+     *
+     * @return number of orders counted
+     */
+    long rebuild();
+
+    List<SalesPeriod> findDaily(LocalDate from, LocalDate to);
+
+    List<SalesPeriod> findHourly(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Products sold in the range, best sellers by revenue first, or by quantity when requested.
+     */
+    List<ProductSales> findByProduct(LocalDate from, LocalDate to, boolean orderByQuantity, int limit);
+
+    List<CategorySales> findByCategory(LocalDate from, LocalDate to);
+}
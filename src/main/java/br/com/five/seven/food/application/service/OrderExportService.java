@@ -0,0 +1,26 @@
+package br.com.five.seven.food.application.service;
+
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.in.OrderExportServiceIn;
+import br.com.five.seven.food.application.ports.out.IOrderExportOut;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class OrderExportService implements OrderExportServiceIn {
+
+    private final IOrderExportOut orderExport;
+
+    public OrderExportService(IOrderExportOut orderExport) {
+        this.orderExport = orderExport;
+    }
+
+    public void export(LocalDateTime from, LocalDateTime to, List<OrderStatus> statuses, Consumer<Order> consumer) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("The export range must have a start before its end.");
+        }
+        orderExport.streamOrders(from, to, statuses != null ? statuses : List.of(), consumer);
+    }
+}
@@ -2,17 +2,22 @@ package br.com.five.seven.food.application.service;
 
 import br.com.five.seven.food.application.domain.Item;
 import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
 import br.com.five.seven.food.application.domain.Product;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
 import br.com.five.seven.food.application.ports.in.CategoryServiceIn;
 import br.com.five.seven.food.application.ports.in.OrderServiceIn;
 import br.com.five.seven.food.application.ports.out.IClientApiOut;
+import br.com.five.seven.food.application.ports.out.IOrderMetricsOut;
 import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import br.com.five.seven.food.application.ports.out.IOrderTimelineOut;
 import br.com.five.seven.food.application.ports.out.IProductRepositoryOut;
+import br.com.five.seven.food.application.ports.out.ISalesRollupOut;
 import br.com.five.seven.food.infra.exceptions.ClientNotFoundException;
 import jakarta.xml.bind.ValidationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -24,13 +29,20 @@ public class OrderService implements OrderServiceIn {
     private final IProductRepositoryOut productRepository;
     private final CategoryServiceIn categoryService;
     private final IClientApiOut clientApiOut;
+    private final IOrderMetricsOut orderMetrics;
+    private final IOrderTimelineOut orderTimeline;
+    private final ISalesRollupOut salesRollup;
 
     public OrderService(IOrderRepositoryOut orderRepository, IProductRepositoryOut productRepository,
-                        CategoryServiceIn categoryService, IClientApiOut clientApiOut) {
+                        CategoryServiceIn categoryService, IClientApiOut clientApiOut, IOrderMetricsOut orderMetrics,
+                        IOrderTimelineOut orderTimeline, ISalesRollupOut salesRollup) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
         this.categoryService = categoryService;
         this.clientApiOut = clientApiOut;
+        this.orderMetrics = orderMetrics;
+        this.orderTimeline = orderTimeline;
+        this.salesRollup = salesRollup;
     }
 
     public Page<Order> findAll(Pageable pageable) {
@@ -47,14 +59,43 @@ public class OrderService implements OrderServiceIn {
 
     public Order create(Order order) throws ValidationException {
         validateAndPopulateOrder(order);
-        return orderRepository.save(order);
+        if (order.getStatusChangedAt() == null) {
+            order.setStatusChangedAt(order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now());
+        }
+        Order created = orderRepository.save(order);
+        orderMetrics.orderCreated(created);
+        return created;
     }
 
+    /**
+     * A status change through PUT goes through the same bookkeeping as {@link #updateStatusOrder},
+     * so it reaches the timeline, the dwell metrics and the sales rollup. Timestamps the request
+     * does not carry are kept from the stored order.
+     */
+    @Transactional
     public Order update(Long id, Order order) throws ValidationException {
         Order orderToBeUpdated = findById(id);
+        OrderStatus previous = orderToBeUpdated.getOrderStatus();
+        OrderStatus next = order.getOrderStatus() != null ? order.getOrderStatus() : previous;
+        LocalDateTime enteredPrevious = statusEnteredAt(orderToBeUpdated);
+        LocalDateTime now = LocalDateTime.now();
+
         order.setId(orderToBeUpdated.getId());
-        order.setUpdatedAt(LocalDateTime.now());
-        return orderRepository.update(order);
+        order.setOrderStatus(next);
+        order.setCreatedAt(orderToBeUpdated.getCreatedAt());
+        order.setReceivedAt(orderToBeUpdated.getReceivedAt());
+        order.setStatusChangedAt(orderToBeUpdated.getStatusChangedAt());
+        if (previous != next) {
+            order.setStatusChangedAt(now);
+            if (next == OrderStatus.RECEIVED) {
+                order.setReceivedAt(now);
+            }
+        }
+        order.setUpdatedAt(now);
+
+        Order updated = orderRepository.update(order);
+        recordStatusChange(order, previous, next, enteredPrevious, now);
+        return updated;
     }
 
     public void deleteById(Long id) {
@@ -65,19 +106,29 @@ public class OrderService implements OrderServiceIn {
         return orderRepository.save(order);
     }
 
+    @Transactional
     public Order updateStatusOrder(Long orderId, OrderStatus orderStatus) {
         Order order = findById(orderId);
+        OrderStatus previous = order.getOrderStatus();
+        LocalDateTime enteredPrevious = statusEnteredAt(order);
+        LocalDateTime now = LocalDateTime.now();
         order.setOrderStatus(orderStatus);
 
         if (orderStatus.equals(OrderStatus.RECEIVED)) {
-            order.setReceivedAt(LocalDateTime.now());
+            order.setReceivedAt(now);
         }
 
-        order.setUpdatedAt(LocalDateTime.now());
+        order.setUpdatedAt(now);
+        if (previous != orderStatus) {
+            order.setStatusChangedAt(now);
+        }
 
-        return save(order);
+        Order saved = save(order);
+        recordStatusChange(order, previous, orderStatus, enteredPrevious, now);
+        return saved;
     }
 
+    @Transactional
     public Order advanceOrderStatus(Long orderId) {
         Order order = findById(orderId);
         OrderStatus current = order.getOrderStatus();
@@ -94,13 +145,38 @@ public class OrderService implements OrderServiceIn {
             default -> throw new IllegalStateException("Status desconhecido.");
         };
 
+        LocalDateTime enteredCurrent = statusEnteredAt(order);
+        LocalDateTime now = LocalDateTime.now();
         order.setOrderStatus(next);
         if (next == OrderStatus.RECEIVED) {
-            order.setReceivedAt(LocalDateTime.now());
+            order.setReceivedAt(now);
         }
 
-        order.setUpdatedAt(LocalDateTime.now());
-        return save(order);
+        order.setUpdatedAt(now);
+        order.setStatusChangedAt(now);
+        Order saved = save(order);
+        recordStatusChange(order, current, next, enteredCurrent, now);
+        return saved;
+    }
+
+    // Orders saved before status tracking existed fall back to their last update
+    private LocalDateTime statusEnteredAt(Order order) {
+        if (order.getStatusChangedAt() != null) {
+            return order.getStatusChangedAt();
+        }
+        return order.getUpdatedAt() != null ? order.getUpdatedAt() : order.getCreatedAt();
+    }
+
+    private void recordStatusChange(Order order, OrderStatus from, OrderStatus to, LocalDateTime enteredFrom, LocalDateTime changedAt) {
+        if (from == null || from == to) {
+            return;
+        }
+        Duration timeInPreviousStatus = enteredFrom != null ? Duration.between(enteredFrom, changedAt) : Duration.ZERO;
+        orderTimeline.append(new OrderStatusTransition(order.getId(), from, to, changedAt, timeInPreviousStatus));
+        orderMetrics.statusChanged(from, to, timeInPreviousStatus);
+        if (to == OrderStatus.FINISHED) {
+            salesRollup.recordFinishedOrder(order, changedAt);
+        }
     }
 
     @Override
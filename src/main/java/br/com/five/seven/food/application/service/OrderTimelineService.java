@@ -0,0 +1,63 @@
+package br.com.five.seven.food.application.service;
+
+import br.com.five.seven.food.application.domain.DwellHistogram;
+import br.com.five.seven.food.application.domain.DwellRollup;
+import br.com.five.seven.food.application.domain.DwellTimeStats;
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.in.OrderTimelineServiceIn;
+import br.com.five.seven.food.application.ports.out.IOrderTimelineOut;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class OrderTimelineService implements OrderTimelineServiceIn {
+
+    private final IOrderTimelineOut orderTimeline;
+
+    public OrderTimelineService(IOrderTimelineOut orderTimeline) {
+        this.orderTimeline = orderTimeline;
+    }
+
+    public List<OrderStatusTransition> getTimeline(Long orderId) {
+        return orderTimeline.findByOrderId(orderId);
+    }
+
+    public List<DwellTimeStats> getDwellTimesPerStatus(LocalDateTime from, LocalDateTime to) {
+        Map<OrderStatus, DwellHistogram> histograms = new EnumMap<>(OrderStatus.class);
+        for (DwellRollup rollup : findRollups(from, to)) {
+            histograms.computeIfAbsent(rollup.getStatus(), status -> new DwellHistogram())
+                    .add(rollup.getBucket(), rollup.getCount());
+        }
+
+        List<DwellTimeStats> stats = new ArrayList<>();
+        histograms.forEach((status, histogram) -> stats.add(new DwellTimeStats(status, null, histogram)));
+        return stats;
+    }
+
+    public List<DwellTimeStats> getDwellTimesPerHour(LocalDateTime from, LocalDateTime to) {
+        Map<OrderStatus, TreeMap<LocalDateTime, DwellHistogram>> histograms = new EnumMap<>(OrderStatus.class);
+        for (DwellRollup rollup : findRollups(from, to)) {
+            histograms.computeIfAbsent(rollup.getStatus(), status -> new TreeMap<>())
+                    .computeIfAbsent(rollup.getHourStart(), hour -> new DwellHistogram())
+                    .add(rollup.getBucket(), rollup.getCount());
+        }
+
+        List<DwellTimeStats> stats = new ArrayList<>();
+        histograms.forEach((status, perHour) ->
+                perHour.forEach((hour, histogram) -> stats.add(new DwellTimeStats(status, hour, histogram))));
+        return stats;
+    }
+
+    private List<DwellRollup> findRollups(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The start of the range must not be after its end.");
+        }
+        return orderTimeline.findRollups(from.truncatedTo(ChronoUnit.HOURS), to.truncatedTo(ChronoUnit.HOURS));
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.five.seven.food.application.service;
+
+import br.com.five.seven.food.application.domain.CategorySales;
+import br.com.five.seven.food.application.domain.ProductSales;
+import br.com.five.seven.food.application.domain.SalesPeriod;
+import br.com.five.seven.food.application.ports.in.SalesAnalyticsServiceIn;
+import br.com.five.seven.food.application.ports.out.ISalesRollupOut;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SalesAnalyticsService implements SalesAnalyticsServiceIn {
+
+    static final int MAX_TOP_SELLERS = 100;
+
+    private final ISalesRollupOut salesRollup;
+
+    public SalesAnalyticsService(ISalesRollupOut salesRollup) {
+        this.salesRollup = salesRollup;
+    }
+
+    public List<SalesPeriod> getRevenuePerDay(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesRollup.findDaily(from, to);
+    }
+
+    public List<SalesPeriod> getRevenuePerHour(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        return salesRollup.findHourly(from, to);
+    }
+
+    public List<ProductSales> getRevenuePerProduct(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesRollup.findByProduct(from, to, false, Integer.MAX_VALUE);
+    }
+
+    public List<CategorySales> getRevenuePerCategory(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesRollup.findByCategory(from, to);
+    }
+
+    public List<ProductSales> getTopSellers(LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        if (limit < 1 || limit > MAX_TOP_SELLERS) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + MAX_TOP_SELLERS + ".");
+        }
+        return salesRollup.findByProduct(from, to, true, limit);
+    }
+
+    public long rebuild() {
+        return salesRollup.rebuild();
+    }
+
+    private static <T extends Comparable<? super T>> void validateRange(T from, T to) {
+        if (from == null || to == null || from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("The start of the range must not be after its end.");
+        }
+    }
+}
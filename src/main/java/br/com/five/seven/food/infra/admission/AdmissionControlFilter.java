@@ -0,0 +1,107 @@
+package br.com.five.seven.food.infra.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load before it reaches a Tomcat thread's worth of work. Order writes and the menu and
+ * monitor reads each get a {@link GradientConcurrencyLimiter}; a request over its budget gets an
+ * immediate 503 with Retry-After instead of waiting for a database connection until it times
+ * out. Other requests are not limited.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_PREFIX = "orders.admission";
+    static final String WRITE = "write";
+    static final String READ = "read";
+
+    private final AdmissionControlProperties properties;
+    private final GradientConcurrencyLimiter writeLimiter;
+    private final GradientConcurrencyLimiter readLimiter;
+    private final Counter writeRejected;
+    private final Counter readRejected;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writeLimiter = new GradientConcurrencyLimiter(properties.getWrite());
+        this.readLimiter = new GradientConcurrencyLimiter(properties.getRead());
+        this.writeRejected = register(WRITE, writeLimiter, meterRegistry);
+        this.readRejected = register(READ, readLimiter, meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String budget = properties.isEnabled() ? budget(request) : null;
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        GradientConcurrencyLimiter limiter = limiter(budget);
+        int inFlightAtStart = limiter.tryAcquire();
+        if (inFlightAtStart == GradientConcurrencyLimiter.REJECTED) {
+            (WRITE.equals(budget) ? writeRejected : readRejected).increment();
+            // No error dispatch and no body, a shed request should cost as little as possible
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds()));
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start, inFlightAtStart);
+        }
+    }
+
+    /**
+     * @return the budget a request counts against, null when it is not limited
+     */
+    static String budget(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.startsWith("/v1/orders") && !HttpMethod.GET.matches(method)) {
+            return WRITE;
+        }
+        if (HttpMethod.GET.matches(method) && (path.startsWith("/v1/products") || path.startsWith("/v1/categories")
+                || path.startsWith("/v1/orders/monitor"))) {
+            return READ;
+        }
+        return null;
+    }
+
+    GradientConcurrencyLimiter limiter(String budget) {
+        return WRITE.equals(budget) ? writeLimiter : readLimiter;
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+    }
+
+    private static Counter register(String budget, GradientConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        Gauge.builder(METRIC_PREFIX + ".limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        return Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Requests shed with 503 over the concurrency limit")
+                .tag("budget", budget)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.five.seven.food.infra.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    /** Sent as Retry-After on every shed request, rounded up to whole seconds */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** Order writes, each one holds a database connection for a transaction */
+    private Limit write = new Limit(10, 2, 40);
+
+    /** Menu and monitor reads, kept apart so a write backlog never starves them */
+    private Limit read = new Limit(40, 8, 150);
+
+    @Data
+    public static class Limit {
+
+        private int initialLimit;
+
+        private int minLimit;
+
+        /** Keep below server.tomcat.threads.max (200) so shed requests still find a thread */
+        private int maxLimit;
+
+        /** Latency may grow this much over the long-term average before the limit shrinks */
+        private double rttTolerance = 1.5;
+
+        /** Weight of each new estimate, lower values react slower but jitter less */
+        private double smoothing = 0.2;
+
+        /** Samples averaged into the long-term latency */
+        private int longWindow = 600;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.five.seven.food.infra.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the latency gradient, after Netflix's Gradient2. Each completed
+ * request compares its latency with a long-term average: while latency stays close to the
+ * average the limit grows by about its square root, once the database slows down and latency
+ * climbs the limit shrinks in proportion. Acquiring is a single CAS, only the limit update on
+ * release is synchronized.
+ */
+public class GradientConcurrencyLimiter {
+
+    /** Returned by {@link #tryAcquire} when the limit is reached */
+    public static final int REJECTED = -1;
+
+    private final AdmissionControlProperties.Limit settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientConcurrencyLimiter(AdmissionControlProperties.Limit settings) {
+        this.settings = settings;
+        this.estimatedLimit = settings.getInitialLimit();
+        this.limit = settings.getInitialLimit();
+    }
+
+    /**
+     * @return requests in flight including this one, to hand back to {@link #release}, or
+     * {@link #REJECTED} when the limit is reached and the caller must not proceed nor release
+     */
+    public int tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return REJECTED;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return current + 1;
+    }
+
+    /**
+     * Releases a slot taken by {@link #tryAcquire} and feeds the request latency to the limit,
+     * judged against the concurrency the request started under as Gradient2 does.
+     */
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        onSample(rttNanos, inFlightAtStart);
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        double shortRtt = rttNanos;
+        samples++;
+        if (samples == 1) {
+            longRttNanos = shortRtt;
+        } else {
+            long window = Math.min(samples, settings.getLongWindow());
+            longRttNanos += (shortRtt - longRttNanos) / window;
+        }
+
+        // Recovering from a slow period: let the long-term average come down faster
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Far below the limit the latency says nothing about it, keep the limit as it is
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, settings.getRttTolerance() * longRttNanos / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing();
+        estimatedLimit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
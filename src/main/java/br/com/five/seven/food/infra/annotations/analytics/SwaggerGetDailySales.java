@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.analytics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Get revenue per day", description = "Retrieve the finished orders and revenue of each day in the range, defaults to the last 30 days.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the daily sales"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range")
+})
+public @interface SwaggerGetDailySales {
+}
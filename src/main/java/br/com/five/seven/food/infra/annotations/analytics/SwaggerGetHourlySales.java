@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.analytics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Get revenue per hour", description = "Retrieve the finished orders and revenue of each hour in the range, defaults to the last 24 hours.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the hourly sales"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range")
+})
+public @interface SwaggerGetHourlySales {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.analytics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Get top sellers", description = "Retrieve the products with the most units sold in the date range.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the top sellers"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or limit")
+})
+public @interface SwaggerGetTopSellers {
+}
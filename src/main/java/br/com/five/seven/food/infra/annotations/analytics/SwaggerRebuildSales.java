@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.analytics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Rebuild sales rollups", description = "Recompute every sales rollup from the finished orders, including archived ones.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully rebuilt the sales rollups"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+})
+public @interface SwaggerRebuildSales {
+}
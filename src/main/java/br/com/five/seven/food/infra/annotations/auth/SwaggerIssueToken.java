@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.auth;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Issue an access token", description = "Exchange HTTP Basic credentials for a short-lived signed token, sent afterwards as 'Authorization: Bearer <token>'.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Token successfully issued"),
+        @ApiResponse(responseCode = "401", description = "Missing or invalid HTTP Basic credentials")
+})
+public @interface SwaggerIssueToken {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.health;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Liveness check", description = "Returns the liveness state, 503 when the application is broken and should be restarted.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Service is live"),
+        @ApiResponse(responseCode = "503", description = "Service is broken")
+})
+public @interface SwaggerLiveness {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.health;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Readiness check", description = "Returns the readiness state with the database, connection pool and client API state, 503 while the service is warming up, the database is unreachable or the connection pool is saturated.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Service accepts traffic"),
+        @ApiResponse(responseCode = "503", description = "Service refuses traffic or a required dependency is unavailable")
+})
+public @interface SwaggerReadiness {
+}
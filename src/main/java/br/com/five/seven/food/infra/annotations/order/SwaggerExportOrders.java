@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.order;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Export orders", description = "Stream every order, active or archived, created within a date range as NDJSON or CSV.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Orders streamed as application/x-ndjson or text/csv"),
+        @ApiResponse(responseCode = "400", description = "Invalid range or format")
+})
+public @interface SwaggerExportOrders {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.order;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Get dwell times", description = "Retrieve p50, p95 and p99 of the time orders spend in each status, for the whole range or per hour.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the dwell times"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range")
+})
+public @interface SwaggerGetDwellTimes {
+}
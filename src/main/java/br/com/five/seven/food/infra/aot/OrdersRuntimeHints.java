@@ -0,0 +1,105 @@
+package br.com.five.seven.food.infra.aot;
+
+import br.com.five.seven.food.adapter.out.api.client.ClientApiClient;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.persistence.Entity;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reflection and proxy metadata the native image cannot infer from the bean definitions,
+ * registered during AOT processing. Packages are scanned at build time, so new payloads,
+ * entities and Swagger annotations are covered without touching this class.
+ */
+public class OrdersRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "br.com.five.seven.food";
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Jackson reads and writes the payloads, and the client API response, through getters and setters
+        for (Class<?> payload : scan(classLoader, (reader, factory) -> true,
+                BASE_PACKAGE + ".adapter.in.payload", BASE_PACKAGE + ".adapter.out.api.response")) {
+            bindingHints.registerReflectionHints(hints.reflection(), payload);
+        }
+
+        // Hibernate instantiates entities and sets their fields
+        for (Class<?> entity : scan(classLoader, new AnnotationTypeFilter(Entity.class),
+                BASE_PACKAGE + ".adapter.out.relational.entity")) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        // MapStruct generated mappers and the hand-written ones
+        for (Class<?> mapper : scan(classLoader, new RegexPatternTypeFilter(Pattern.compile(".*MapperImpl")),
+                BASE_PACKAGE + ".adapter.in.mappers")) {
+            hints.reflection().registerType(mapper, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // OpenFeign parses the interface annotations and backs it with a JDK proxy
+        hints.reflection().registerType(ClientApiClient.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.proxies().registerJdkProxy(ClientApiClient.class);
+
+        // springdoc resolves the Swagger annotations through the infra.annotations meta-annotations,
+        // which Spring synthesizes as JDK proxies
+        for (Class<?> annotation : scan(classLoader, (reader, factory) -> reader.getClassMetadata().isAnnotation(),
+                BASE_PACKAGE + ".infra.annotations")) {
+            hints.reflection().registerType(annotation, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (Class<?> swaggerAnnotation : List.of(Operation.class, ApiResponses.class, ApiResponse.class)) {
+            hints.reflection().registerType(swaggerAnnotation, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(swaggerAnnotation);
+        }
+
+        // datasource-proxy wraps JDBC objects when orders.sql-instrumentation is enabled, as in prd
+        for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class, ResultSet.class)) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+        }
+    }
+
+    private List<Class<?>> scan(ClassLoader classLoader, TypeFilter filter, String... basePackages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                // Unlike component scanning, annotations and interfaces are wanted too
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(filter);
+
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+        }
+        return types;
+    }
+}
@@ -2,11 +2,18 @@ package br.com.five.seven.food.infra.beans;
 
 import br.com.five.seven.food.application.ports.out.ICategoryRepositoryOut;
 import br.com.five.seven.food.application.ports.out.IClientApiOut;
+import br.com.five.seven.food.application.ports.out.IOrderExportOut;
+import br.com.five.seven.food.application.ports.out.IOrderMetricsOut;
 import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import br.com.five.seven.food.application.ports.out.IOrderTimelineOut;
 import br.com.five.seven.food.application.ports.out.IProductRepositoryOut;
+import br.com.five.seven.food.application.ports.out.ISalesRollupOut;
 import br.com.five.seven.food.application.service.CategoryService;
+import br.com.five.seven.food.application.service.OrderExportService;
 import br.com.five.seven.food.application.service.OrderService;
+import br.com.five.seven.food.application.service.OrderTimelineService;
 import br.com.five.seven.food.application.service.ProductService;
+import br.com.five.seven.food.application.service.SalesAnalyticsService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
@@ -24,7 +31,22 @@ public class ConfigBeans {
     }
 
     @Bean
-    public OrderService orderServiceIn(IOrderRepositoryOut orderRepositoryOut, IProductRepositoryOut productRepository, CategoryService categoryService, IClientApiOut clientApi) {
-        return new OrderService(orderRepositoryOut, productRepository, categoryService, clientApi);
+    public OrderService orderServiceIn(IOrderRepositoryOut orderRepositoryOut, IProductRepositoryOut productRepository, CategoryService categoryService, IClientApiOut clientApi, IOrderMetricsOut orderMetrics, IOrderTimelineOut orderTimeline, ISalesRollupOut salesRollup) {
+        return new OrderService(orderRepositoryOut, productRepository, categoryService, clientApi, orderMetrics, orderTimeline, salesRollup);
+    }
+
+    @Bean
+    public OrderTimelineService orderTimelineServiceIn(IOrderTimelineOut orderTimeline) {
+        return new OrderTimelineService(orderTimeline);
+    }
+
+    @Bean
+    public OrderExportService orderExportServiceIn(IOrderExportOut orderExport) {
+        return new OrderExportService(orderExport);
+    }
+
+    @Bean
+    public SalesAnalyticsService salesAnalyticsServiceIn(ISalesRollupOut salesRollup) {
+        return new SalesAnalyticsService(salesRollup);
     }
 }
@@ -0,0 +1,63 @@
+package br.com.five.seven.food.infra.crac;
+
+import br.com.five.seven.food.infra.startup.OrderWarmUp;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Takes a CRaC checkpoint once the app is started and warmed up, when
+ * {@code orders.checkpoint.after-warm-up} is set. It runs after {@code WarmUpRunner} and adds
+ * more read passes, since the restored image serves traffic right away. At checkpoint Spring stops the lifecycle beans:
+ * Tomcat releases its port, the scheduler pauses and Boot suspends the Hikari pool and closes its
+ * connections. Boot only does the latter with {@code spring.datasource.hikari.allow-pool-suspension},
+ * which application.yml ties to the same flag as this runner; without it the pool refills to
+ * minimum-idle while being closed and the checkpoint fails on open sockets. On restore they start
+ * again and the pool reconnects with the settings captured at checkpoint time. The warm-up never calls the client API, so the Feign client holds no keep-alive
+ * socket at checkpoint and its first call after restore opens a new connection.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CheckpointAfterWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointAfterWarmUp.class);
+
+    private final CheckpointProperties properties;
+    private final OrderWarmUp warmUp;
+
+    public CheckpointAfterWarmUp(CheckpointProperties properties, OrderWarmUp warmUp) {
+        this.properties = properties;
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!properties.isAfterWarmUp()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < properties.getWarmUpIterations(); i++) {
+            warmUp.read();
+        }
+        log.info("Warm-up of {} iterations took {} ms, taking checkpoint", properties.getWarmUpIterations(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+
+        try {
+            Core.checkpointRestore();
+        } catch (CheckpointException | RestoreException | UnsupportedOperationException e) {
+            // Failing startup makes the checkpoint job fail instead of leaving an app without a checkpoint running
+            throw new IllegalStateException("CRaC checkpoint failed, the JVM needs -XX:CRaCCheckpointTo on a CRaC JDK", e);
+        }
+        log.info("Restored from checkpoint");
+    }
+}
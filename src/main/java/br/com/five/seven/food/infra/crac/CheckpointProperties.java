@@ -0,0 +1,16 @@
+package br.com.five.seven.food.infra.crac;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.checkpoint")
+public class CheckpointProperties {
+
+    /** Only for the checkpoint job (scripts/crac-checkpoint.sh): warm up, then checkpoint with CRaC */
+    private boolean afterWarmUp = false;
+
+    private int warmUpIterations = 2000;
+}
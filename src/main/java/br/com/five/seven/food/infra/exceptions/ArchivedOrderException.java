@@ -0,0 +1,11 @@
+package br.com.five.seven.food.infra.exceptions;
+
+/**
+ * Finished orders moved to the archive tables are history, they can be read but not changed.
+ */
+public class ArchivedOrderException extends RuntimeException {
+
+    public ArchivedOrderException(Long orderId) {
+        super("Order " + orderId + " is archived and can no longer be changed");
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.five.seven.food.infra.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.export")
+public class OrderExportProperties {
+
+    /** Exports running at once per pod, each holds a pooled connection until the client has read it all */
+    private int maxConcurrent = 2;
+
+    /** Sent as Retry-After with the 503 answered over max-concurrent */
+    private Duration retryAfter = Duration.ofSeconds(30);
+}
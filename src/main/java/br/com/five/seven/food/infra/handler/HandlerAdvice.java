@@ -1,5 +1,6 @@
 package br.com.five.seven.food.infra.handler;
 
+import br.com.five.seven.food.infra.exceptions.ArchivedOrderException;
 import br.com.five.seven.food.infra.exceptions.ClientNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
@@ -42,6 +43,19 @@ public class HandlerAdvice {
         return problemDetail;
     }
 
+    @ExceptionHandler(ArchivedOrderException.class)
+    public ProblemDetail handleArchivedOrderException(ArchivedOrderException ex, HttpServletRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Pedido Arquivado");
+        problemDetail.setProperty("path", request.getRequestURL().toString());
+        problemDetail.setProperty("error", ex.getClass().getSimpleName());
+
+        return problemDetail;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleValidationException(MethodArgumentNotValidException ex, HttpServletRequest request) {
         String errorDetails = buildValidationErrorMessage(ex.getBindingResult().getFieldErrors());
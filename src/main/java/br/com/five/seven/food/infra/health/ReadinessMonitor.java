@@ -0,0 +1,105 @@
+package br.com.five.seven.food.infra.health;
+
+import br.com.five.seven.food.adapter.in.payload.health.ConnectionPoolResponse;
+import br.com.five.seven.food.adapter.in.payload.health.ReadinessResponse;
+import br.com.five.seven.food.adapter.out.api.ClientApiAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the dependency state behind {@code /health/readiness}. The database and the Hikari pool
+ * are checked on a schedule and probes read the cached result, so a probe never borrows a
+ * connection. The database check is skipped while the pool is saturated: waiting for a
+ * connection there would only add to the queue. The client API is reported but never makes the
+ * pod unready, since every pod shares the same users service and none could take its place.
+ */
+@Component
+public class ReadinessMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessMonitor.class);
+
+    private final ApplicationAvailability availability;
+    private final DataSource dataSource;
+    private final ClientApiAdapter clientApiAdapter;
+    private final ReadinessProperties properties;
+
+    private volatile String database = ReadinessResponse.UNKNOWN;
+    private volatile ConnectionPoolResponse connectionPool;
+    private volatile LocalDateTime checkedAt;
+    private int saturatedRefreshes;
+
+    public ReadinessMonitor(ApplicationAvailability availability, DataSource dataSource,
+                            ClientApiAdapter clientApiAdapter, ReadinessProperties properties) {
+        this.availability = availability;
+        this.dataSource = dataSource;
+        this.clientApiAdapter = clientApiAdapter;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.health.readiness.refresh-interval:PT5S}")
+    public void refresh() {
+        ConnectionPoolResponse pool = poolState();
+        if (pool == null || !pool.isSaturated()) {
+            database = databaseState();
+        }
+        connectionPool = pool;
+        checkedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Combines the live availability state, which the warm-up holds at REFUSING_TRAFFIC, with the
+     * last refresh. The database stays UNKNOWN, and the pod unready, until the first refresh.
+     */
+    public ReadinessResponse current() {
+        ReadinessState state = availability.getReadinessState();
+        ConnectionPoolResponse pool = connectionPool;
+        String db = database;
+        boolean ready = state == ReadinessState.ACCEPTING_TRAFFIC
+                && ReadinessResponse.UP.equals(db)
+                && (pool == null || !pool.isSaturated());
+        String clientApi = clientApiAdapter.consecutiveFailures() >= properties.getClientApiFailureThreshold()
+                ? ReadinessResponse.DEGRADED : ReadinessResponse.UP;
+        return new ReadinessResponse(ready ? ReadinessResponse.UP : ReadinessResponse.DOWN, state.name(), db, pool,
+                clientApi, checkedAt);
+    }
+
+    private String databaseState() {
+        int timeoutSeconds = (int) Math.max(1, (properties.getDatabaseTimeout().toMillis() + 999) / 1000);
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(timeoutSeconds) ? ReadinessResponse.UP : ReadinessResponse.DOWN;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Readiness database check failed: {}", e.getMessage());
+            return ReadinessResponse.DOWN;
+        }
+    }
+
+    private ConnectionPoolResponse poolState() {
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return null;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return null;
+        }
+        int active = pool.getActiveConnections();
+        int awaiting = pool.getThreadsAwaitingConnection();
+        int max = hikari.getMaximumPoolSize();
+        saturatedRefreshes = active >= max && awaiting > 0 ? saturatedRefreshes + 1 : 0;
+        return new ConnectionPoolResponse(active, pool.getIdleConnections(), max, awaiting,
+                saturatedRefreshes >= properties.getSaturatedChecks());
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.five.seven.food.infra.health;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.health.readiness")
+public class ReadinessProperties {
+
+    /** How often ReadinessMonitor checks the database, probes only read the cached result */
+    private Duration refreshInterval = Duration.ofSeconds(5);
+
+    /** Passed to Connection#isValid, rounded up to whole seconds */
+    private Duration databaseTimeout = Duration.ofSeconds(1);
+
+    /** Consecutive refreshes with every connection busy and threads waiting before the pool counts as saturated */
+    private int saturatedChecks = 3;
+
+    /** Consecutive client API failures before it is reported DEGRADED */
+    private int clientApiFailureThreshold = 5;
+}
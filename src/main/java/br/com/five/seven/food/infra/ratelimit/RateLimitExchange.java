@@ -0,0 +1,60 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of rate limit consumption shared by the replicas. Each replica inserts what
+ * its clients spent since its last sync and reads what the others inserted after its cursor.
+ * Rows are never updated, so replicas never contend on a row lock. A row committed behind a
+ * cursor that already moved past its id is missed, which at worst lets a client exceed its
+ * limit by one sync interval of traffic.
+ */
+@Component
+public class RateLimitExchange {
+
+    private static final String INSERT = "INSERT INTO rate_limit_consumption (instance_id, bucket_key, tokens) VALUES (?, ?, ?)";
+    private static final String READ_AFTER = "SELECT id, bucket_key, tokens FROM rate_limit_consumption "
+            + "WHERE id > ? AND instance_id <> ? ORDER BY id";
+    private static final String LAST_ID = "SELECT COALESCE(max(id), 0) FROM rate_limit_consumption";
+    private static final String DELETE_BEFORE = "DELETE FROM rate_limit_consumption WHERE recorded_at < now() - make_interval(secs => ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RateLimitExchange(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void append(String instanceId, Map<String, Long> consumed) {
+        if (consumed.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(consumed.size());
+        consumed.forEach((key, tokens) -> rows.add(new Object[]{instanceId, key, tokens}));
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    public List<Consumption> readAfter(long cursor, String instanceId) {
+        return jdbcTemplate.query(READ_AFTER, (rs, rowNum) -> new Consumption(rs.getLong("id"), rs.getString("bucket_key"),
+                rs.getLong("tokens")), cursor, instanceId);
+    }
+
+    /**
+     * Replicas start from the current end of the log, older consumption has already refilled.
+     */
+    public long lastId() {
+        Long id = jdbcTemplate.queryForObject(LAST_ID, Long.class);
+        return id == null ? 0 : id;
+    }
+
+    public int deleteOlderThan(long seconds) {
+        return jdbcTemplate.update(DELETE_BEFORE, seconds);
+    }
+
+    public record Consumption(long id, String bucketKey, long tokens) {
+    }
+}
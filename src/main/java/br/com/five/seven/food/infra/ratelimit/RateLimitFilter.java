@@ -0,0 +1,88 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Answers 429 with Retry-After to a client that spent its tokens on a limited route. Clients
+ * are told apart by API key when they send one of the configured keys, otherwise by remote
+ * address (behind the ingress that needs {@code server.forward-headers-strategy}). Keys go into
+ * bucket keys, and so into rate_limit_consumption, as a digest rather than in clear.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "orders.rate.limit.rejected";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> clientsByApiKey;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clientsByApiKey = properties.getApiKeys().stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), apiKey -> "key:" + digest(apiKey)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitProperties.Route route = properties.isEnabled()
+                ? rateLimiter.route(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()))
+                : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryConsume(route, client(request), System.nanoTime());
+        if (waitNanos > 0) {
+            Counter.builder(METRIC_NAME)
+                    .description("Requests refused with 429 over a client rate limit")
+                    .tag("route", route.getName())
+                    .register(meterRegistry)
+                    .increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(properties.getApiKeyHeader());
+        String client = apiKey == null ? null : clientsByApiKey.get(apiKey);
+        return client != null ? client : "ip:" + request.getRemoteAddr();
+    }
+
+    private static String digest(String apiKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
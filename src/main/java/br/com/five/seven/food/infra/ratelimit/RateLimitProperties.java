@@ -0,0 +1,56 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Clients sending one of api-keys in this header are limited per key, the others per remote address */
+    private String apiKeyHeader = "X-API-Key";
+
+    /** Keys issued to clients, any other value in the header is ignored so rotating keys does not reset a limit */
+    private List<String> apiKeys = new ArrayList<>();
+
+    /** Bound on the buckets held per replica, new clients beyond it share one bucket per route */
+    private int maxBuckets = 100_000;
+
+    /** Exchanges consumption with the other replicas through Postgres, see RateLimitSync */
+    private boolean syncEnabled = true;
+
+    /** A client may exceed its limit by up to this much traffic on each other replica */
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    /** How long exchanged consumption rows are kept, must be well above sync-interval */
+    private Duration retention = Duration.ofMinutes(1);
+
+    /** The first route matching a request applies, requests matching none are not limited */
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+
+        /** Part of the bucket key shared between replicas, keep it stable and without spaces */
+        private String name;
+
+        /** Any method when empty */
+        private String method;
+
+        /** Ant-style path pattern, e.g. /v1/orders/monitor/** */
+        private String pattern;
+
+        /** Requests a client may burst, the limit is for the whole cluster */
+        private int capacity;
+
+        private double refillPerSecond;
+    }
+}
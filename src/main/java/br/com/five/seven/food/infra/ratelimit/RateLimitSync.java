@@ -0,0 +1,66 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the limits global across replicas: every sync interval it publishes the tokens this
+ * replica handed out and takes the ones the other replicas handed out from the local buckets.
+ * Requests never wait on it, and while Postgres is unreachable each replica keeps enforcing
+ * the limit on its own.
+ */
+@Component
+public class RateLimitSync {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitSync.class);
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitExchange exchange;
+    private final RateLimitProperties properties;
+    private final String instanceId = UUID.randomUUID().toString();
+    private long cursor = -1;
+
+    public RateLimitSync(RateLimiter rateLimiter, RateLimitExchange exchange, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.exchange = exchange;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.rate-limit.sync-interval:PT1S}")
+    public void sync() {
+        long now = System.nanoTime();
+        if (properties.isEnabled() && properties.isSyncEnabled()) {
+            exchange(now);
+        }
+        rateLimiter.evictIdle(now);
+    }
+
+    private void exchange(long now) {
+        Map<String, Long> consumed = rateLimiter.drainConsumption();
+        try {
+            if (cursor < 0) {
+                cursor = exchange.lastId();
+            }
+            exchange.append(instanceId, consumed);
+        } catch (RuntimeException e) {
+            rateLimiter.restoreConsumption(consumed);
+            log.warn("Could not publish rate limit consumption: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            for (RateLimitExchange.Consumption consumption : exchange.readAfter(cursor, instanceId)) {
+                rateLimiter.consumeRemote(consumption.bucketKey(), consumption.tokens(), now);
+                cursor = Math.max(cursor, consumption.id());
+            }
+            exchange.deleteOlderThan(properties.getRetention().toSeconds());
+        } catch (RuntimeException e) {
+            log.warn("Could not read rate limit consumption: {}", e.getMessage());
+        }
+    }
+}
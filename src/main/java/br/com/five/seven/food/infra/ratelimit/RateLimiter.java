@@ -0,0 +1,117 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token buckets per route and client, keyed {@code <route>|<client>} so the key means the same
+ * on every replica. Past {@code max-buckets} new clients share the route's overflow bucket until
+ * idle buckets are evicted, so a flood of distinct clients cannot grow the map without bound.
+ */
+@Component
+public class RateLimiter {
+
+    private static final char SEPARATOR = '|';
+    static final String OVERFLOW_CLIENT = "overflow";
+
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @return the first configured route matching the request, null when it is not limited
+     */
+    public RateLimitProperties.Route route(String method, String path) {
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if ((!StringUtils.hasText(route.getMethod()) || route.getMethod().equalsIgnoreCase(method))
+                    && pathMatcher.match(route.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 0 when the request may proceed, otherwise how long until the client gets a token
+     */
+    public long tryConsume(RateLimitProperties.Route route, String client, long nowNanos) {
+        return bucket(route, route.getName() + SEPARATOR + client, nowNanos).tryConsume(nowNanos);
+    }
+
+    /**
+     * Applies consumption published by another replica. Buckets are created as needed, so a
+     * client moving to this replica keeps what it already spent.
+     */
+    public void consumeRemote(String key, long tokens, long nowNanos) {
+        RateLimitProperties.Route route = routeByName(key.substring(0, Math.max(0, key.indexOf(SEPARATOR))));
+        if (route != null && (buckets.containsKey(key) || !isFull())) {
+            bucket(route, key, nowNanos).consumeRemote(tokens, nowNanos);
+        }
+    }
+
+    /**
+     * @return tokens taken locally per bucket since the last call
+     */
+    public Map<String, Long> drainConsumption() {
+        Map<String, Long> consumed = new HashMap<>();
+        buckets.forEach((key, bucket) -> {
+            long tokens = bucket.drainUnsynced();
+            if (tokens > 0) {
+                consumed.put(key, tokens);
+            }
+        });
+        return consumed;
+    }
+
+    /**
+     * Puts back consumption that could not be published, it goes out with the next sync.
+     */
+    public void restoreConsumption(Map<String, Long> consumed) {
+        consumed.forEach((key, tokens) -> {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.restoreUnsynced(tokens);
+            }
+        });
+    }
+
+    public void evictIdle(long nowNanos) {
+        buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucket(RateLimitProperties.Route route, String key, long nowNanos) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        // RateLimitSync evicts idle buckets every interval, scanning here would cost every new client
+        String bucketKey = isFull() ? route.getName() + SEPARATOR + OVERFLOW_CLIENT : key;
+        return buckets.computeIfAbsent(bucketKey, ignored -> new TokenBucket(route.getCapacity(), route.getRefillPerSecond(), nowNanos));
+    }
+
+    private boolean isFull() {
+        return buckets.size() >= properties.getMaxBuckets();
+    }
+
+    private RateLimitProperties.Route routeByName(String name) {
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getName().equals(name)) {
+                return route;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket kept as the single instant at which it will be full again (the generic cell rate
+ * algorithm), so taking a token is one CAS with no lock and no refill bookkeeping. Local takes
+ * are counted separately until {@link RateLimitSync} publishes them to the other replicas.
+ */
+class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+    private final LongAdder unsynced = new LongAdder();
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.nanosPerToken = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = capacity * nanosPerToken;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0 when a token was taken, otherwise how long until one is available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            if (next - nowNanos > burstNanos) {
+                return next - nowNanos - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                unsynced.increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Takes tokens spent on other replicas. The bucket is emptied at most, never overdrawn, so a
+     * late sync cannot block a client for longer than a full refill.
+     */
+    void consumeRemote(long tokens, long nowNanos) {
+        long cost = tokens * nanosPerToken;
+        fullAt.updateAndGet(current -> Math.min(Math.max(current, nowNanos) + cost, nowNanos + burstNanos));
+    }
+
+    long drainUnsynced() {
+        return unsynced.sumThenReset();
+    }
+
+    void restoreUnsynced(long tokens) {
+        unsynced.add(tokens);
+    }
+
+    /**
+     * A full bucket with nothing left to publish can be dropped, it would be recreated identical.
+     */
+    boolean isIdle(long nowNanos) {
+        return fullAt.get() <= nowNanos && unsynced.sum() == 0;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.five.seven.food.infra.scheduling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.archive")
+public class OrderArchiveProperties {
+
+    private boolean enabled = true;
+
+    /** How long an order must stay FINISHED before it is moved to the archive */
+    private Duration finishedAge = Duration.ofDays(7);
+
+    private int batchSize = 200;
+
+    private int maxBatchesPerRun = 20;
+
+    /** Pause between batches, caps the mover at batchSize orders per pause */
+    private Duration pauseBetweenBatches = Duration.ofMillis(500);
+}
@@ -0,0 +1,54 @@
+package br.com.five.seven.food.infra.scheduling;
+
+import br.com.five.seven.food.application.ports.out.IOrderArchiveOut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@ConditionalOnProperty(prefix = "orders.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveScheduler.class);
+
+    private final IOrderArchiveOut orderArchive;
+    private final OrderArchiveProperties properties;
+
+    public OrderArchiveScheduler(IOrderArchiveOut orderArchive, OrderArchiveProperties properties) {
+        this.orderArchive = orderArchive;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.archive.interval:PT5M}", initialDelayString = "${orders.archive.initial-delay:PT1M}")
+    public void archiveFinishedOrders() {
+        LocalDateTime finishedBefore = LocalDateTime.now().minus(properties.getFinishedAge());
+        int archived = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int moved = orderArchive.archiveFinishedBefore(finishedBefore, properties.getBatchSize());
+            archived += moved;
+            if (moved < properties.getBatchSize() || !pause(properties.getPauseBetweenBatches())) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} orders finished before {}", archived, finishedBefore);
+        }
+    }
+
+    private boolean pause(Duration pause) {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.five.seven.food.infra.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers username and password pairs the delegate accepted, so repeated HTTP Basic
+ * calls skip BCrypt until the TTL expires. Entries are keyed by an HMAC-SHA256 of the
+ * credentials under a random key that never leaves the process, the passwords themselves
+ * are not kept. Rejected credentials are never cached and always reach the delegate.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final SecretKeySpec key;
+    private final Map<String, CachedAuthentication> verified = new ConcurrentHashMap<>();
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, Duration ttl, int maxEntries) {
+        this(delegate, ttl, maxEntries, Clock.systemUTC());
+    }
+
+    CachingAuthenticationProvider(AuthenticationProvider delegate, Duration ttl, int maxEntries, Clock clock) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String cacheKey = digest(authentication.getName(), authentication.getCredentials().toString());
+        Instant now = clock.instant();
+        CachedAuthentication cached = verified.get(cacheKey);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            UsernamePasswordAuthenticationToken result =
+                    UsernamePasswordAuthenticationToken.authenticated(cached.principal(), null, cached.authorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            remember(cacheKey, new CachedAuthentication(result.getPrincipal(), result.getAuthorities(), now.plus(ttl)), now);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    private void remember(String cacheKey, CachedAuthentication entry, Instant now) {
+        if (verified.size() >= maxEntries) {
+            verified.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+            // Still full with live entries: someone is cycling credentials, start over
+            if (verified.size() >= maxEntries) {
+                verified.clear();
+            }
+        }
+        verified.put(cacheKey, entry);
+    }
+
+    private String digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            // Separator byte that cannot appear in UTF-8 text, "ab"+"c" and "a"+"bc" differ
+            mac.update((byte) 0xFF);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private record CachedAuthentication(Object principal, Collection<? extends GrantedAuthority> authorities,
+                                        Instant expiresAt) {
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.security.credential-cache")
+public class CredentialCacheProperties {
+
+    private boolean enabled = true;
+
+    /** How long verified credentials skip the password hash, also how long a changed password may still work */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    private int maxEntries = 1000;
+}
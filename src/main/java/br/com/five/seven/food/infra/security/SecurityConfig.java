@@ -1,16 +1,23 @@
 package br.com.five.seven.food.infra.security;
 
 import feign.Request;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -23,10 +30,16 @@ import java.util.List;
 public class SecurityConfig {
 
         @Bean
-        public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain securityFilterChain(HttpSecurity http, ObjectProvider<SignedTokenService> tokenService)
+                        throws Exception {
+                // Opt-in Bearer tokens are checked before HTTP Basic, see orders.security.token
+                tokenService.ifAvailable(service -> http.addFilterBefore(new BearerTokenAuthenticationFilter(service),
+                                BasicAuthenticationFilter.class));
                 http
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                                 .authorizeHttpRequests(auth -> auth
+                                                // Revenue figures, enforced here because method security stays off
+                                                .requestMatchers("/v1/analytics/**").hasRole("ADMIN")
                                                 .anyRequest().permitAll())
                                 .csrf(csrf -> csrf
                                                 .ignoringRequestMatchers(
@@ -56,18 +69,32 @@ public class SecurityConfig {
                 return source;
         }
 
+        @Bean
+        @ConditionalOnProperty(prefix = "orders.security.token", name = "enabled", havingValue = "true")
+        public SignedTokenService signedTokenService(TokenProperties tokenProperties) {
+                return new SignedTokenService(tokenProperties);
+        }
+
         @Bean
         public PasswordEncoder passwordEncoder() {
                 return new BCryptPasswordEncoder();
         }
 
         @Bean
-        public AuthenticationManager authManager(HttpSecurity http) throws Exception {
+        public AuthenticationManager authManager(HttpSecurity http, CredentialCacheProperties credentialCache)
+                        throws Exception {
                 AuthenticationManagerBuilder authenticationManagerBuilder = http
                                 .getSharedObject(AuthenticationManagerBuilder.class);
-                authenticationManagerBuilder
-                                .inMemoryAuthentication()
-                                .withUser("admin").password(passwordEncoder().encode("admin")).roles("ADMIN");
+                UserDetailsService users = new InMemoryUserDetailsManager(User.withUsername("admin")
+                                .password(passwordEncoder().encode("admin")).roles("ADMIN").build());
+                DaoAuthenticationProvider passwordCheck = new DaoAuthenticationProvider(passwordEncoder());
+                passwordCheck.setUserDetailsService(users);
+
+                // BCrypt costs tens of ms per call, HTTP Basic pays it on every admin request
+                authenticationManagerBuilder.authenticationProvider(credentialCache.isEnabled()
+                                ? new CachingAuthenticationProvider(passwordCheck, credentialCache.getTtl(),
+                                                credentialCache.getMaxEntries())
+                                : passwordCheck);
                 return authenticationManagerBuilder.build();
         }
 }
@@ -0,0 +1,117 @@
+package br.com.five.seven.food.infra.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and checks stateless access tokens: {@code base64url(payload).base64url(hmac)}, where
+ * the payload holds the username, the authorities and the expiry. Any replica sharing the
+ * secret validates a token with one HMAC-SHA256, without a session or a password hash.
+ */
+public class SignedTokenService {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public SignedTokenService(TokenProperties properties) {
+        this(properties.getSecret(), properties.getTtl(), Clock.systemUTC());
+    }
+
+    SignedTokenService(String secret, Duration ttl, Clock clock) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("orders.security.token.secret must have at least " + MIN_SECRET_BYTES + " bytes.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public String issue(Authentication authentication) {
+        String username = authentication.getName();
+        if (username.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("Username cannot contain line breaks.");
+        }
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = String.join("\n", VERSION, username, authorities, Long.toString(expiresAt));
+
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * Returns the authentication carried by the token, or empty when it is malformed,
+     * was not signed with this secret or has expired.
+     */
+    public Optional<Authentication> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            return Optional.empty();
+        }
+
+        String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split("\n", -1);
+        if (fields.length != 4 || !VERSION.equals(fields[0])) {
+            return Optional.empty();
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(fields[3]);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(Instant.ofEpochSecond(expiresAt))) {
+            return Optional.empty();
+        }
+        return Optional.of(UsernamePasswordAuthenticationToken.authenticated(fields[1], null,
+                AuthorityUtils.commaSeparatedStringToAuthorityList(fields[2])));
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.five.seven.food.infra.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.security.token")
+public class TokenProperties {
+
+    /** Opt-in: enables POST /v1/auth/token and Bearer authentication */
+    private boolean enabled = false;
+
+    /** HMAC key shared by every replica, at least 32 bytes */
+    private String secret;
+
+    private Duration ttl = Duration.ofMinutes(15);
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.sql;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.sql-instrumentation")
+public class SqlInstrumentationProperties {
+
+    private boolean enabled = false;
+
+    /** Statements slower than this are logged, everything else only feeds the histograms */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    private int maxLoggedSqlLength = 2000;
+}
@@ -0,0 +1,44 @@
+package br.com.five.seven.food.infra.sql;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+final class SqlRedactor {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?(?![\\w.])");
+
+    private SqlRedactor() {
+    }
+
+    /**
+     * Replaces inline literals so slow query logs never carry CPFs, names or amounts.
+     */
+    static String redact(String sql, int maxLength) {
+        String redacted = NUMERIC_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("?")).replaceAll("?");
+        return redacted.length() > maxLength ? redacted.substring(0, maxLength) + "..." : redacted;
+    }
+
+    /**
+     * Describes bind parameters by type only, values are never logged.
+     */
+    static String describeParameters(List<Object> values) {
+        return values.stream()
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    static String operationOf(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        for (String operation : List.of("select", "insert", "update", "delete")) {
+            if (sql.regionMatches(true, start, operation, 0, operation.length())) {
+                return operation;
+            }
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.five.seven.food.infra.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement, tagging it with the controller route that issued it,
+ * and logs only the statements above the slow query threshold.
+ */
+public class StatementMetricsListener implements QueryExecutionListener {
+
+    static final String METRIC_NAME = "db.statement";
+    static final String NO_ENDPOINT = "none";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementMetricsListener.class);
+
+    // Resolved lazily: the registry binds pool metrics and therefore depends on the DataSource being wrapped
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final SqlInstrumentationProperties properties;
+
+    public StatementMetricsListener(ObjectProvider<MeterRegistry> meterRegistry, SqlInstrumentationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Timing is provided by ExecutionInfo after the statement ran
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String endpoint = currentEndpoint();
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        long elapsedMillis = execInfo.getElapsedTime();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder(METRIC_NAME)
+                    .description("JDBC statement execution time")
+                    .tag("operation", SqlRedactor.operationOf(sql))
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(elapsedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        if (elapsedMillis >= properties.getSlowQueryThreshold().toMillis()) {
+            log.warn("Slow SQL statement: {} ms endpoint=[{}] batch={} sql=[{}] params={}",
+                    elapsedMillis, endpoint, execInfo.isBatch(),
+                    SqlRedactor.redact(sql, properties.getMaxLoggedSqlLength()),
+                    SqlRedactor.describeParameters(firstParameterSet(queryInfoList)));
+        }
+    }
+
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                return request.getMethod() + " " + pattern;
+            }
+        }
+        return NO_ENDPOINT;
+    }
+
+    private static List<Object> firstParameterSet(List<QueryInfo> queryInfoList) {
+        List<Object> values = new ArrayList<>();
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return values;
+        }
+        for (ParameterSetOperation operation : queryInfoList.get(0).getParametersList().get(0)) {
+            Object[] args = operation.getArgs();
+            values.add(args.length > 1 ? args[1] : null);
+        }
+        return values;
+    }
+}
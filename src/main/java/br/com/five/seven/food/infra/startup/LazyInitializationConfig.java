@@ -0,0 +1,39 @@
+package br.com.five.seven.food.infra.startup;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on, as in the faststart
+ * build. Everything else is created on first use. Migrations and the JPA bootstrap must finish
+ * before the port answers, otherwise the first request would run them. Beans with
+ * {@code @Scheduled} methods are only scheduled once they exist.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerPersistence() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class, EntityManagerFactory.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerScheduledBeans() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethods(beanType);
+    }
+
+    static boolean hasScheduledMethods(Class<?> beanType) {
+        if (beanType == null || !AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
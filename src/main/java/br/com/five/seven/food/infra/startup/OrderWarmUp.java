@@ -0,0 +1,150 @@
+package br.com.five.seven.food.infra.startup;
+
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
+import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
+import br.com.five.seven.food.application.domain.Category;
+import br.com.five.seven.food.application.domain.Image;
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.in.OrderServiceIn;
+import br.com.five.seven.food.application.ports.in.ProductServiceIn;
+import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the paths the API serves, with their request and response mapping and serialization, so
+ * {@code OrderService}, the mappers, Hibernate and Jackson are compiled before real traffic.
+ * Reads also map a synthetic page, so an empty database still warms the mappers. Writes insert
+ * an order in a transaction that is always rolled back, which only costs an order id. The
+ * client API is never called and no order metric is recorded.
+ */
+@Component
+public class OrderWarmUp {
+
+    static final List<OrderStatus> MONITOR_STATUSES = List.of(OrderStatus.RECEIVED, OrderStatus.IN_PREPARATION,
+            OrderStatus.READY);
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final String WARM_UP_ORDER = """
+            {"title":"Warm-up","description":"Rolled back","items":[{"productId":1,"quantity":2}]}""";
+
+    private final OrderServiceIn orderService;
+    private final ProductServiceIn productService;
+    private final IOrderRepositoryOut orderRepository;
+    private final OrderMapper orderMapper;
+    private final CatalogResponseCache catalogResponses;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final Page<Order> syntheticPage = new PageImpl<>(syntheticOrders(), PAGE, 20);
+
+    public OrderWarmUp(OrderServiceIn orderService, ProductServiceIn productService, IOrderRepositoryOut orderRepository,
+                       OrderMapper orderMapper, CatalogResponseCache catalogResponses, ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        this.orderService = orderService;
+        this.productService = productService;
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.catalogResponses = catalogResponses;
+        this.objectMapper = objectMapper;
+        this.transactionManager = transactionManager;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * One pass over the order list, monitor and catalog reads.
+     *
+     * @return bytes serialized, only so the work cannot be optimised away
+     */
+    public long read() throws JsonProcessingException {
+        long bytes = serialize(orderService.findAll(PAGE));
+        bytes += serialize(orderService.findAllByOrderStatus(MONITOR_STATUSES, PAGE));
+        bytes += serialize(syntheticPage);
+        bytes += objectMapper.writeValueAsBytes(productService.getAllProducts().stream()
+                .map(catalogResponses::toResponse).toList()).length;
+        return bytes;
+    }
+
+    /**
+     * Parses and maps an order creation request, then inserts the order and flushes it inside a
+     * transaction that is rolled back.
+     */
+    public void writeAndRollBack() throws JsonProcessingException {
+        List<Product> catalog = productService.getAllProducts();
+        Order order = orderMapper.createRequestToDomain(objectMapper.readValue(WARM_UP_ORDER, CreateOrderRequest.class));
+        if (catalog.isEmpty()) {
+            order.setItems(new ArrayList<>());
+        } else {
+            order.getItems().forEach(item -> item.setProduct(catalog.get(0)));
+        }
+        order.setStatusChangedAt(LocalDateTime.now());
+        order.setTotalAmount(order.calculateTotalAmount());
+
+        TransactionStatus transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            Order saved = orderRepository.save(order);
+            entityManager.flush();
+            objectMapper.writeValueAsBytes(orderMapper.domainToResponse(saved));
+        } finally {
+            transactionManager.rollback(transaction);
+        }
+    }
+
+    private long serialize(Page<Order> orders) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orders.map(orderMapper::domainToResponse).getContent()).length
+                + objectMapper.writeValueAsBytes(orders.map(orderMapper::domainToCompactResponse).getContent()).length
+                + objectMapper.writeValueAsBytes(orders.map(orderMapper::domainToMonitorResponse).getContent()).length
+                + objectMapper.writeValueAsBytes(orderMapper.domainPageToDictionaryResponse(orders)).length;
+    }
+
+    /**
+     * Negative ids keep the synthetic products apart from real ones in the catalog response cache.
+     */
+    private static List<Order> syntheticOrders() {
+        List<Product> catalog = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            Product product = new Product();
+            product.setId(-id);
+            product.setName("Warm-up " + id);
+            product.setDescription("Warm-up product " + id);
+            product.setPrice(BigDecimal.valueOf(10 + id));
+            product.setActive(true);
+            product.setImages(new ArrayList<>(List.of(new Image("https://example.com/warm-up/" + id + ".jpg"))));
+            product.setCategory(new Category(-(id % 4 + 1), "Warm-up " + (id % 4 + 1), true));
+            catalog.add(product);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < 1 + id % 5; i++) {
+                items.add(new Item(-(id * 10 + i), catalog.get((int) ((id + i) % catalog.size())), 1 + i % 3));
+            }
+            Order order = new Order(-id, "Warm-up " + id, null, MONITOR_STATUSES.get((int) (id % MONITOR_STATUSES.size())),
+                    null, items, null, now.minusMinutes(id), now.minusMinutes(id), now);
+            items.forEach(item -> item.setOrder(order));
+            order.setTotalAmount(order.calculateTotalAmount());
+            order.setStatusChangedAt(now.minusMinutes(id));
+            orders.add(order);
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.five.seven.food.infra.startup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.warm-up")
+public class WarmUpProperties {
+
+    private boolean enabled = true;
+
+    /** Passes over the read paths, see OrderWarmUp#read */
+    private int readIterations = 200;
+
+    /** Rolled-back order inserts, each one consumes an order id */
+    private int writeIterations = 20;
+
+    /** The pod is reported ready once this is spent, even if iterations remain */
+    private Duration maxDuration = Duration.ofSeconds(20);
+}
@@ -0,0 +1,59 @@
+package br.com.five.seven.food.infra.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Warms up the read and write paths before the pod takes traffic. Spring Boot only moves the
+ * readiness state to ACCEPTING_TRAFFIC after every runner has finished, so
+ * {@code /health/readiness} refuses traffic for as long as this runs, while liveness is already
+ * correct. A failing warm-up is logged and does not keep the pod out of service.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private final OrderWarmUp warmUp;
+    private final WarmUpProperties properties;
+
+    public WarmUpRunner(OrderWarmUp warmUp, WarmUpProperties properties) {
+        this.warmUp = warmUp;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        long deadline = started + properties.getMaxDuration().toNanos();
+        int reads = 0;
+        int writes = 0;
+        try {
+            while (reads < properties.getReadIterations() && System.nanoTime() < deadline) {
+                warmUp.read();
+                reads++;
+            }
+            while (writes < properties.getWriteIterations() && System.nanoTime() < deadline) {
+                warmUp.writeAndRollBack();
+                writes++;
+            }
+        } catch (Exception e) {
+            log.warn("Warm-up stopped after {} reads and {} writes", reads, writes, e);
+            return;
+        }
+        log.info("Warm-up ran {} reads and {} writes in {} ms", reads, writes,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+}
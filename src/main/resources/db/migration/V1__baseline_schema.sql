@@ -0,0 +1,64 @@
+-- Schema previously created by hibernate ddl-auto=update.
+-- IF NOT EXISTS keeps this script safe to run against databases created that way.
+
+CREATE TABLE IF NOT EXISTS categories (
+    id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name   VARCHAR(255) NOT NULL,
+    active BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255)   NOT NULL,
+    description VARCHAR(255)   NOT NULL,
+    price       NUMERIC(38, 2) NOT NULL,
+    active      BOOLEAN        NOT NULL,
+    category_id BIGINT REFERENCES categories (id)
+);
+
+CREATE TABLE IF NOT EXISTS images (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    url        VARCHAR(255) NOT NULL,
+    product_id BIGINT REFERENCES products (id)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title          VARCHAR(255)   NOT NULL,
+    description    VARCHAR(255)   NOT NULL,
+    order_status   VARCHAR(255)   NOT NULL,
+    cpf_client     VARCHAR(255),
+    total_amount   NUMERIC(38, 2) NOT NULL,
+    received_at    TIMESTAMP(6),
+    remaining_time VARCHAR(255),
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id BIGINT  NOT NULL REFERENCES products (id),
+    quantity   INTEGER NOT NULL,
+    order_id   BIGINT  NOT NULL REFERENCES orders (id)
+);
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id             BIGINT PRIMARY KEY,
+    title          VARCHAR(255)   NOT NULL,
+    description    VARCHAR(255)   NOT NULL,
+    order_status   VARCHAR(255)   NOT NULL,
+    cpf_client     VARCHAR(255),
+    total_amount   NUMERIC(38, 2) NOT NULL,
+    received_at    TIMESTAMP(6),
+    remaining_time VARCHAR(255),
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL,
+    archived_at    TIMESTAMP(6)   NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    id         BIGINT PRIMARY KEY,
+    product_id BIGINT  NOT NULL REFERENCES products (id),
+    quantity   INTEGER NOT NULL,
+    order_id   BIGINT  NOT NULL REFERENCES orders_archive (id)
+);
@@ -0,0 +1,13 @@
+-- Monitor and kitchen screens filter by status, the archive mover by status and age
+CREATE INDEX IF NOT EXISTS idx_orders_order_status_updated_at ON orders (order_status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_orders_received_at ON orders (received_at);
+
+-- Items are always loaded through their order
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
+CREATE INDEX IF NOT EXISTS idx_order_items_archive_order_id ON order_items_archive (order_id);
+
+-- Menu by category and case-insensitive name lookups
+CREATE INDEX IF NOT EXISTS idx_products_category_id ON products (category_id);
+CREATE INDEX IF NOT EXISTS idx_products_lower_name ON products (lower(name));
+CREATE INDEX IF NOT EXISTS idx_categories_lower_name ON categories (lower(name));
+CREATE INDEX IF NOT EXISTS idx_images_product_id ON images (product_id);
@@ -0,0 +1,24 @@
+-- When each order entered its current status
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS status_changed_at TIMESTAMP(6);
+ALTER TABLE orders_archive ADD COLUMN IF NOT EXISTS status_changed_at TIMESTAMP(6);
+
+-- Append-only log of status changes, kept without a foreign key so it survives archival
+CREATE TABLE IF NOT EXISTS order_status_transitions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    from_status VARCHAR(255) NOT NULL,
+    to_status VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP(6) NOT NULL,
+    dwell_millis BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_order_status_transitions_order_id ON order_status_transitions (order_id, changed_at);
+
+-- Dwell histogram counters per status left and hour, incremented with every transition
+CREATE TABLE IF NOT EXISTS order_dwell_rollups (
+    status VARCHAR(255) NOT NULL,
+    hour_start TIMESTAMP(6) NOT NULL,
+    bucket INTEGER NOT NULL,
+    sample_count BIGINT NOT NULL,
+    PRIMARY KEY (status, hour_start, bucket)
+);
+CREATE INDEX IF NOT EXISTS idx_order_dwell_rollups_hour_start ON order_dwell_rollups (hour_start);
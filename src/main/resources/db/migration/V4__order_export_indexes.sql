@@ -0,0 +1,3 @@
+-- Order exports select a creation date range in both the hot and the archive table
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders (created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_archive_created_at ON orders_archive (created_at);
@@ -0,0 +1,36 @@
+-- Orders already counted in the sales rollups, makes counting a finished order idempotent
+CREATE TABLE IF NOT EXISTS sales_rollup_orders (
+    order_id BIGINT PRIMARY KEY,
+    finished_at TIMESTAMP(6) NOT NULL
+);
+
+-- Revenue is kept in centavos, the same unit the domain computes totals in
+CREATE TABLE IF NOT EXISTS sales_daily (
+    day DATE PRIMARY KEY,
+    orders BIGINT NOT NULL,
+    revenue_cents BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS sales_hourly (
+    hour_start TIMESTAMP(6) PRIMARY KEY,
+    orders BIGINT NOT NULL,
+    revenue_cents BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS sales_product_daily (
+    day DATE NOT NULL,
+    product_id BIGINT NOT NULL,
+    product_name VARCHAR(255),
+    quantity BIGINT NOT NULL,
+    revenue_cents BIGINT NOT NULL,
+    PRIMARY KEY (day, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS sales_category_daily (
+    day DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    category_name VARCHAR(255),
+    quantity BIGINT NOT NULL,
+    revenue_cents BIGINT NOT NULL,
+    PRIMARY KEY (day, category_id)
+);
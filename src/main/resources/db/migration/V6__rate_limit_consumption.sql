@@ -0,0 +1,11 @@
+-- Append-only exchange of rate limit consumption between replicas, see RateLimitExchange
+CREATE TABLE IF NOT EXISTS rate_limit_consumption (
+    id BIGSERIAL PRIMARY KEY,
+    instance_id VARCHAR(64) NOT NULL,
+    bucket_key VARCHAR(200) NOT NULL,
+    tokens BIGINT NOT NULL,
+    recorded_at TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+-- Retention cleanup, the reads go through the primary key
+CREATE INDEX IF NOT EXISTS idx_rate_limit_consumption_recorded_at ON rate_limit_consumption (recorded_at);
@@ -0,0 +1,165 @@
+package br.com.five.seven.food.smoke;
+
+import br.com.five.seven.food.stub.ClientApiStub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the native binary built by {@code ./mvnw -Pnative verify} against an embedded Postgres
+ * (the Flyway migrations run as in production) and the client API stub, with the prd profile
+ * so SQL instrumentation is on, and drives the endpoints that depend on runtime hints.
+ */
+@DisplayName("Native Image Smoke Tests")
+class NativeImageSmokeIT {
+
+    private static final String ADMIN_AUTHORIZATION = "Basic "
+            + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static EmbeddedPostgres postgres;
+    private static ClientApiStub clientApi;
+    private static Process app;
+    private static String baseUrl;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startApp() throws Exception {
+        Path binary = Path.of(System.getProperty("native.binary", "target/api-orders"));
+        assertTrue(Files.isExecutable(binary), "Native binary not found at " + binary + ", build it with -Pnative");
+
+        postgres = EmbeddedPostgres.builder().start();
+        clientApi = ClientApiStub.start();
+        int port = freePort();
+        baseUrl = "http://127.0.0.1:" + port;
+
+        ProcessBuilder builder = new ProcessBuilder(binary.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of(System.getProperty("native.log", "target/native-smoke.log")).toFile());
+        Map<String, String> env = builder.environment();
+        env.put("ENVIRONMENT_PROFILE_VALUE", "prd");
+        env.put("SERVER_PORT", String.valueOf(port));
+        env.put("DB_HOST", "127.0.0.1");
+        env.put("DB_PORT", String.valueOf(postgres.getPort()));
+        env.put("DB_ORDERS_NAME", "postgres");
+        env.put("DB_USERNAME", "postgres");
+        env.put("DB_PASSWORD", "postgres");
+        env.put("AWS_ACCESS_KEY", "smoke");
+        env.put("AWS_SECRET_KEY", "smoke");
+        env.put("CLIENT_API_URL", clientApi.baseUrl());
+        app = builder.start();
+
+        awaitHealthy();
+    }
+
+    @AfterAll
+    static void stopApp() throws IOException {
+        if (app != null) {
+            app.destroy();
+        }
+        if (clientApi != null) {
+            clientApi.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should create and read back an order through JPA, MapStruct, Jackson and Feign")
+    void givenMenu_whenCreatingOrder_thenItShouldBeReadBack() throws Exception {
+        // Given
+        assertEquals(200, post("/v1/categories", Map.of("name", "Lanche", "active", true)).statusCode());
+        HttpResponse<String> product = post("/v1/products", Map.of("name", "X-Burger", "description", "Lanche da casa",
+                "price", 25.9, "active", true, "images", List.of(Map.of("url", "https://example.com/x.jpg")),
+                "category", "Lanche"));
+        assertEquals(200, product.statusCode(), product.body());
+        long productId = objectMapper.readTree(product.body()).get("id").asLong();
+
+        // When
+        HttpResponse<String> created = post("/v1/orders", Map.of("cpfClient", "12345678901", "title", "Pedido smoke",
+                "items", List.of(Map.of("productId", productId, "quantity", 2))));
+
+        // Then
+        assertEquals(201, created.statusCode(), created.body());
+        long orderId = objectMapper.readTree(created.body()).get("id").asLong();
+        HttpResponse<String> read = get("/v1/orders/" + orderId);
+        assertEquals(200, read.statusCode(), read.body());
+        JsonNode items = objectMapper.readTree(read.body()).get("items");
+        assertEquals(1, items.size());
+        assertEquals(2, items.get(0).get("quantity").asInt());
+        assertTrue(clientApi.requestCount() > 0);
+    }
+
+    @Test
+    @DisplayName("Should serve the OpenAPI document with the Swagger meta-annotations resolved")
+    void givenRunningApp_whenReadingApiDocs_thenOperationsShouldBeDescribed() throws Exception {
+        HttpResponse<String> docs = get("/v3/api-docs");
+
+        assertEquals(200, docs.statusCode());
+        assertTrue(docs.body().contains("Create a new order"));
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        return httpClient.send(request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", ADMIN_AUTHORIZATION);
+    }
+
+    private static void awaitHealthy() throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                fail("Native binary exited with " + app.exitValue() + ", see " + System.getProperty("native.log"));
+            }
+            try {
+                if (client.send(request("/health").GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Port not open yet
+            }
+            Thread.sleep(100);
+        }
+        fail("Native binary did not answer /health within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -331,11 +331,7 @@ class CategoryControllerTest {
     }
 
     private CategoryResponse createCategoryResponse(Long id, String name, boolean active) {
-        CategoryResponse response = new CategoryResponse();
-        response.setId(id);
-        response.setName(name);
-        response.setActive(active);
-        return response;
+        return new CategoryResponse(id, name, active);
     }
 }
 
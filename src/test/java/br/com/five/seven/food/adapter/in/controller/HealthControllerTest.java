@@ -1,17 +1,35 @@
 package br.com.five.seven.food.adapter.in.controller;
 
+import br.com.five.seven.food.adapter.in.payload.health.ConnectionPoolResponse;
+import br.com.five.seven.food.adapter.in.payload.health.ReadinessResponse;
+import br.com.five.seven.food.infra.health.ReadinessMonitor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Health Controller Tests")
 class HealthControllerTest {
 
+    @Mock
+    private ApplicationAvailability availability;
+
+    @Mock
+    private ReadinessMonitor readinessMonitor;
+
     @InjectMocks
     private HealthController healthController;
 
@@ -24,4 +42,69 @@ class HealthControllerTest {
         // Then
         assertEquals("UP!", result);
     }
+
+    @Test
+    @DisplayName("Should refuse readiness while warming up and still report liveness")
+    void givenWarmUpRunning_whenProbed_thenNotReadyButLive() {
+        // Given
+        when(readinessMonitor.current()).thenReturn(readiness(ReadinessResponse.DOWN, "REFUSING_TRAFFIC", false));
+        when(availability.getLivenessState()).thenReturn(LivenessState.CORRECT);
+
+        // When
+        ResponseEntity<ReadinessResponse> readiness = healthController.readiness();
+        ResponseEntity<String> liveness = healthController.liveness();
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, readiness.getStatusCode());
+        assertEquals("REFUSING_TRAFFIC", readiness.getBody().getAvailability());
+        assertEquals(HttpStatus.OK, liveness.getStatusCode());
+        assertEquals("CORRECT", liveness.getBody());
+    }
+
+    @Test
+    @DisplayName("Should report ready once the application accepts traffic")
+    void givenAcceptingTraffic_whenProbed_thenReady() {
+        // Given
+        when(readinessMonitor.current()).thenReturn(readiness(ReadinessResponse.UP, "ACCEPTING_TRAFFIC", false));
+
+        // When
+        ResponseEntity<ReadinessResponse> readiness = healthController.readiness();
+
+        // Then
+        assertEquals(HttpStatus.OK, readiness.getStatusCode());
+        assertEquals("ACCEPTING_TRAFFIC", readiness.getBody().getAvailability());
+    }
+
+    @Test
+    @DisplayName("Should refuse readiness when the connection pool is saturated")
+    void givenSaturatedPool_whenProbed_thenNotReadyWithPoolState() {
+        // Given
+        when(readinessMonitor.current()).thenReturn(readiness(ReadinessResponse.DOWN, "ACCEPTING_TRAFFIC", true));
+
+        // When
+        ResponseEntity<ReadinessResponse> readiness = healthController.readiness();
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, readiness.getStatusCode());
+        assertTrue(readiness.getBody().getConnectionPool().isSaturated());
+    }
+
+    @Test
+    @DisplayName("Should fail liveness when the application is broken")
+    void givenBrokenApplication_whenProbed_thenNotLive() {
+        // Given
+        when(availability.getLivenessState()).thenReturn(LivenessState.BROKEN);
+
+        // When
+        ResponseEntity<String> liveness = healthController.liveness();
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, liveness.getStatusCode());
+    }
+
+    private static ReadinessResponse readiness(String status, String availability, boolean saturated) {
+        return new ReadinessResponse(status, availability, ReadinessResponse.UP,
+                new ConnectionPoolResponse(10, 0, 10, saturated ? 4 : 0, saturated), ReadinessResponse.UP,
+                LocalDateTime.now());
+    }
 }
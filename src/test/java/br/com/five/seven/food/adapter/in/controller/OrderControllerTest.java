@@ -1,7 +1,9 @@
 package br.com.five.seven.food.adapter.in.controller;
 
 import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.in.payload.item.CompactItemResponse;
 import br.com.five.seven.food.adapter.in.payload.item.ItemRequest;
+import br.com.five.seven.food.adapter.in.payload.order.CompactOrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
 import br.com.five.seven.food.adapter.in.payload.order.OrderMonitorResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
@@ -14,6 +16,7 @@ import br.com.five.seven.food.application.domain.Order;
 import br.com.five.seven.food.application.domain.Product;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
 import br.com.five.seven.food.application.ports.in.OrderServiceIn;
+import br.com.five.seven.food.infra.exceptions.ArchivedOrderException;
 import jakarta.xml.bind.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -111,6 +114,27 @@ class OrderControllerTest {
         verify(orderService, times(1)).findAllByOrderStatus(anyList(), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Scenario: Successfully retrieve the compact view of an order")
+    void givenExistingOrderId_whenGettingCompactOrder_thenItemsShouldReferenceProductsById() {
+        // Given: An existing order with one item
+        Order order = createOrder(1L, OrderStatus.RECEIVED);
+        CompactOrderResponse compactResponse = new CompactOrderResponse();
+        compactResponse.setId(1L);
+        compactResponse.setItems(List.of(new CompactItemResponse(7L, 2)));
+
+        when(orderService.findById(1L)).thenReturn(order);
+        when(orderMapper.domainToCompactResponse(order)).thenReturn(compactResponse);
+
+        // When: Getting the compact view of the order
+        ResponseEntity<CompactOrderResponse> response = orderController.getOrderByIdCompact(1L);
+
+        // Then: The compact representation should be returned
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(7L, response.getBody().getItems().get(0).getProductId());
+        verify(orderMapper, never()).domainToResponse(any());
+    }
+
     @Test
     @DisplayName("Scenario: Successfully retrieve order by ID")
     void givenExistingOrderId_whenGettingOrderById_thenOrderShouldBeReturned() throws ValidationException {
@@ -372,6 +396,16 @@ class OrderControllerTest {
         verify(orderService, times(1)).deleteById(999L);
     }
 
+    @Test
+    @DisplayName("Scenario: Refuse to delete an archived order")
+    void givenArchivedOrder_whenDeletingOrder_thenArchivedOrderExceptionShouldReachTheHandler() {
+        // Given: An order that was archived
+        doThrow(new ArchivedOrderException(7L)).when(orderService).deleteById(7L);
+
+        // When & Then: The exception is left to HandlerAdvice, which answers 409
+        assertThrows(ArchivedOrderException.class, () -> orderController.deleteOrder(7L));
+    }
+
     // UPDATE ORDER TESTS
 
     @Test
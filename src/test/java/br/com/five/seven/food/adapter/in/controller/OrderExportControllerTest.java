@@ -0,0 +1,172 @@
+package br.com.five.seven.food.adapter.in.controller;
+
+import br.com.five.seven.food.application.domain.Item;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.in.OrderExportServiceIn;
+import br.com.five.seven.food.infra.export.OrderExportProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Export Controller BDD Tests")
+class OrderExportControllerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Mock
+    private OrderExportServiceIn orderExportService;
+
+    @Spy
+    private OrderExportProperties exportProperties = new OrderExportProperties();
+
+    @InjectMocks
+    private OrderExportController orderExportController;
+
+    @Test
+    @DisplayName("Scenario: Orders are streamed as one JSON object per line")
+    void givenTwoOrders_whenExportingAsNdjson_thenOneLinePerOrderShouldBeWritten() throws Exception {
+        // Given: Two orders in the range
+        streamOrders(createOrder(1L, "Pedido 1"), createOrder(2L, "Pedido 2"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: Exporting as NDJSON
+        orderExportController.exportOrders(FROM, TO, null, "ndjson", response);
+
+        // Then: Each order is a JSON line with its items
+        assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"title\":\"Pedido 1\""));
+        assertTrue(lines[1].contains("\"items\":[{\"productId\":10,\"productName\":\"X-Burger\",\"quantity\":2}]"));
+    }
+
+    @Test
+    @DisplayName("Scenario: Orders are streamed as CSV with one line per item and escaped fields")
+    void givenOrderWithCommaInTitle_whenExportingAsCsv_thenFieldShouldBeQuoted() throws Exception {
+        // Given: An order whose title contains a comma and a quote
+        streamOrders(createOrder(1L, "Lanche, \"grande\""));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: Exporting as CSV filtered by status
+        orderExportController.exportOrders(FROM, TO, List.of(OrderStatus.FINISHED), "CSV", response);
+
+        // Then: The header and the escaped item line are written
+        String[] lines = response.getContentAsString().split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("order_id,created_at"));
+        assertTrue(lines[1].contains(",\"Lanche, \"\"grande\"\"\",25.80,10,X-Burger,2"));
+        assertTrue(response.getHeader("Content-Disposition").endsWith("orders-2025-01-01-2025-02-01.csv\""));
+        verify(orderExportService).export(eq(FROM), eq(TO), eq(List.of(OrderStatus.FINISHED)), any());
+    }
+
+    @Test
+    @DisplayName("Scenario: Text that a spreadsheet would evaluate is exported as plain text")
+    void givenFormulaLikeFields_whenExportingAsCsv_thenCellsShouldBePrefixedWithAQuote() throws Exception {
+        // Given: A title and a CPF crafted as spreadsheet formulas
+        Order order = createOrder(1L, "=HYPERLINK(\"http://evil\")");
+        order.setCpfClient("@SUM(1+1)");
+        streamOrders(order);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: Exporting as CSV
+        orderExportController.exportOrders(FROM, TO, null, "csv", response);
+
+        // Then: Both cells start with a quote, numbers are left as they are
+        String line = response.getContentAsString().split("\r\n")[1];
+        assertTrue(line.contains(",'@SUM(1+1),\"'=HYPERLINK(\"\"http://evil\"\")\",25.80,10,X-Burger,2"));
+    }
+
+    @Test
+    @DisplayName("Scenario: An export over the concurrency limit is refused with Retry-After")
+    void givenExportInProgress_whenAnotherExportStarts_thenServiceUnavailableShouldBeReturned() throws Exception {
+        // Given: A single export slot, taken by an export that starts a second one while streaming
+        OrderExportProperties properties = new OrderExportProperties();
+        properties.setMaxConcurrent(1);
+        OrderExportController controller = new OrderExportController(orderExportService, properties);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        doAnswer(invocation -> {
+            controller.exportOrders(FROM, TO, null, "csv", second);
+            return null;
+        }).doNothing().when(orderExportService).export(any(), any(), any(), any());
+
+        // When: Running the first export, then a third once the first is done
+        controller.exportOrders(FROM, TO, null, "csv", new MockHttpServletResponse());
+        MockHttpServletResponse third = new MockHttpServletResponse();
+        controller.exportOrders(FROM, TO, null, "csv", third);
+
+        // Then: Only the overlapping export is refused, the slot is released afterwards
+        assertEquals(503, second.getStatus());
+        assertEquals("30", second.getHeader("Retry-After"));
+        assertEquals(200, third.getStatus());
+        verify(orderExportService, times(2)).export(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Scenario: Fail to export with an unknown format")
+    void givenUnknownFormat_whenExporting_thenBadRequestShouldBeReturned() throws Exception {
+        // Given: A response to write to
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: Exporting as XML
+        orderExportController.exportOrders(FROM, TO, null, "xml", response);
+
+        // Then: The request is rejected without touching the database
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(orderExportService);
+    }
+
+    @Test
+    @DisplayName("Scenario: Fail to export an inverted range")
+    void givenInvertedRange_whenExporting_thenBadRequestShouldBeReturned() throws Exception {
+        // Given: A response to write to
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: Exporting with the end before the start
+        orderExportController.exportOrders(TO, FROM, null, "csv", response);
+
+        // Then: The request is rejected
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(orderExportService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamOrders(Order... orders) {
+        doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(3);
+            for (Order order : orders) {
+                consumer.accept(order);
+            }
+            return null;
+        }).when(orderExportService).export(any(), any(), any(), any(Consumer.class));
+    }
+
+    private Order createOrder(Long id, String title) {
+        Product product = new Product();
+        product.setId(10L);
+        product.setName("X-Burger");
+        List<Item> items = new ArrayList<>();
+        Order order = new Order(id, title, "Descrição", OrderStatus.FINISHED, "12345678900", items,
+                new BigDecimal("25.80"), FROM.plusHours(1), FROM.plusHours(1), FROM.plusHours(2));
+        items.add(new Item(null, product, 2, order));
+        return order;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.five.seven.food.adapter.in.controller;
 
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
 import br.com.five.seven.food.adapter.in.payload.products.ProductRequest;
 import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
 import br.com.five.seven.food.application.domain.Category;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -38,6 +40,9 @@ class ProductControllerTest {
     @Mock
     private CategoryServiceIn categoryService;
 
+    @Spy
+    private CatalogResponseCache catalogResponses = new CatalogResponseCache();
+
     @InjectMocks
     private ProductController productController;
 
@@ -0,0 +1,62 @@
+package br.com.five.seven.food.adapter.in.controller;
+
+import br.com.five.seven.food.adapter.out.api.client.ClientApiClient;
+import br.com.five.seven.food.application.ports.in.SalesAnalyticsServiceIn;
+import br.com.five.seven.food.infra.security.CredentialCacheProperties;
+import br.com.five.seven.food.infra.security.SecurityConfig;
+import br.com.five.seven.food.infra.security.TokenProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SalesAnalyticsController.class)
+@Import({SecurityConfig.class, CredentialCacheProperties.class, TokenProperties.class})
+@DisplayName("Sales Analytics Controller Security Tests")
+class SalesAnalyticsControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SalesAnalyticsServiceIn salesAnalyticsService;
+
+    @MockitoBean
+    private ClientApiClient clientApiClient;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/daily", "/hourly", "/products", "/categories", "/top-sellers"})
+    @DisplayName("Scenario: Anonymous callers cannot read revenue")
+    void givenAnonymousCaller_whenReadingSales_thenUnauthorized(String path) throws Exception {
+        // When & Then: 401 before the service is reached
+        mockMvc.perform(get("/v1/analytics/sales" + path))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/daily", "/hourly", "/products", "/categories", "/top-sellers"})
+    @DisplayName("Scenario: Authenticated callers without the admin role cannot read revenue")
+    void givenNonAdminCaller_whenReadingSales_thenForbidden(String path) throws Exception {
+        // When & Then: 403 for a kitchen user
+        mockMvc.perform(get("/v1/analytics/sales" + path).with(user("kitchen").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/daily", "/hourly", "/products", "/categories", "/top-sellers"})
+    @DisplayName("Scenario: The admin reads revenue with HTTP Basic")
+    void givenAdminCaller_whenReadingSales_thenOk(String path) throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/analytics/sales" + path).with(httpBasic("admin", "admin")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.five.seven.food.adapter.in.mappers;
+
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
+import br.com.five.seven.food.application.domain.Category;
+import br.com.five.seven.food.application.domain.Image;
+import br.com.five.seven.food.application.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Catalog Response Cache Tests")
+class CatalogResponseCacheTest {
+
+    private CatalogResponseCache catalogResponses;
+
+    @BeforeEach
+    void setUp() {
+        catalogResponses = new CatalogResponseCache();
+    }
+
+    @Test
+    @DisplayName("Should reuse the response of an unchanged product loaded again")
+    void givenSameProductContent_whenMappingTwice_thenResponseShouldBeReused() {
+        // Given
+        ProductResponse first = catalogResponses.toResponse(createProduct("25.90", "Lanches"));
+
+        // When
+        ProductResponse second = catalogResponses.toResponse(createProduct("25.90", "Lanches"));
+
+        // Then
+        assertSame(first, second);
+        assertEquals("X-Burger", second.getName());
+        assertEquals("Lanches", second.getCategory().getName());
+        assertEquals(1, second.getImages().size());
+    }
+
+    @Test
+    @DisplayName("Should build a new response when the product changed")
+    void givenChangedPrice_whenMapping_thenNewResponseShouldBeBuilt() {
+        // Given
+        ProductResponse first = catalogResponses.toResponse(createProduct("25.90", "Lanches"));
+
+        // When
+        ProductResponse second = catalogResponses.toResponse(createProduct("27.90", "Lanches"));
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(new BigDecimal("27.90"), second.getPrice());
+    }
+
+    @Test
+    @DisplayName("Should build a new response when the category of the product changed")
+    void givenRenamedCategory_whenMapping_thenNewResponseShouldBeBuilt() {
+        // Given
+        ProductResponse first = catalogResponses.toResponse(createProduct("25.90", "Lanches"));
+
+        // When
+        ProductResponse second = catalogResponses.toResponse(createProduct("25.90", "Sanduíches"));
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("Sanduíches", second.getCategory().getName());
+    }
+
+    @Test
+    @DisplayName("Should not keep responses when the cache is disabled")
+    void givenNoEntriesAllowed_whenMappingTwice_thenResponsesShouldNotBeReused() {
+        // Given
+        CatalogResponseCache disabled = new CatalogResponseCache(0);
+
+        // When
+        ProductResponse first = disabled.toResponse(createProduct("25.90", "Lanches"));
+        ProductResponse second = disabled.toResponse(createProduct("25.90", "Lanches"));
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Should not let a shared response be changed through its images")
+    void givenCachedResponse_whenChangingImages_thenListShouldBeUnmodifiable() {
+        // Given
+        ProductResponse cached = catalogResponses.toResponse(createProduct("25.90", "Lanches"));
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class, () -> cached.getImages().clear());
+        assertEquals(1, catalogResponses.toResponse(createProduct("25.90", "Lanches")).getImages().size());
+    }
+
+    private Product createProduct(String price, String categoryName) {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("X-Burger");
+        product.setDescription("Hambúrguer com queijo");
+        product.setPrice(new BigDecimal(price));
+        product.setActive(true);
+        product.setImages(new ArrayList<>(List.of(new Image("http://example.com/x-burger.jpg"))));
+        product.setCategory(new Category(1L, categoryName, true));
+        return product;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.five.seven.food.adapter.in.mappers.impl;
 
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
 import br.com.five.seven.food.adapter.in.mappers.ProductMapper;
+import br.com.five.seven.food.adapter.in.payload.item.CompactItemResponse;
 import br.com.five.seven.food.adapter.in.payload.item.ItemRequest;
 import br.com.five.seven.food.adapter.in.payload.item.ItemResponse;
 import br.com.five.seven.food.adapter.out.relational.entity.ItemEntity;
@@ -34,7 +36,7 @@ class ItemMapperImplTest {
 
     @BeforeEach
     void setUp() {
-        itemMapper = new ItemMapperImpl(productMapper);
+        itemMapper = new ItemMapperImpl(productMapper, new CatalogResponseCache());
     }
 
     @Test
@@ -211,6 +213,20 @@ class ItemMapperImplTest {
         assertEquals(3, result.get(1).getQuantity());
     }
 
+    @Test
+    @DisplayName("Should map list of Item domain to compact responses referencing products by id")
+    void givenItemDomainList_whenMappingToCompactResponseList_thenProductsShouldBeReferencedById() {
+        // Given
+        Item item1 = new Item(1L, createProduct(1L, "Hambúrguer"), 2);
+        Item item2 = new Item(2L, createProduct(2L, "Refrigerante"), 3);
+
+        // When
+        List<CompactItemResponse> result = itemMapper.domainListToCompactResponseList(Arrays.asList(item1, item2));
+
+        // Then
+        assertEquals(List.of(new CompactItemResponse(1L, 2), new CompactItemResponse(2L, 3)), result);
+    }
+
     private Product createProduct(Long id, String name) {
         Category category = new Category();
         category.setId(1L);
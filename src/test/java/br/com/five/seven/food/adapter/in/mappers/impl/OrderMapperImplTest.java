@@ -3,23 +3,33 @@ package br.com.five.seven.food.adapter.in.mappers.impl;
 import br.com.five.seven.food.adapter.in.mappers.ItemMapper;
 import br.com.five.seven.food.adapter.in.payload.item.ItemRequest;
 import br.com.five.seven.food.adapter.in.payload.item.ItemResponse;
+import br.com.five.seven.food.adapter.in.payload.item.CompactItemResponse;
+import br.com.five.seven.food.adapter.in.payload.order.CompactOrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.order.OrderDictionaryPageResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderMonitorResponse;
 import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderItemsRequest;
 import br.com.five.seven.food.adapter.in.payload.order.UpdateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.products.ProductResponse;
 import br.com.five.seven.food.adapter.out.relational.entity.ItemEntity;
 import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.ProductEntity;
+import br.com.five.seven.food.application.domain.Category;
 import br.com.five.seven.food.application.domain.Item;
 import br.com.five.seven.food.application.domain.Order;
 import br.com.five.seven.food.application.domain.Product;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,6 +38,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
@@ -128,6 +139,86 @@ class OrderMapperImplTest {
         verify(itemMapper, times(1)).domainListToResponseList(anyList());
     }
 
+    @Test
+    @DisplayName("Should write each product of a page once in the product dictionary")
+    void givenOrdersSharingProduct_whenMappingPageToDictionary_thenProductShouldBeListedOnce() {
+        // Given
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Lanches");
+        Order first = createOrder(1L, OrderStatus.RECEIVED);
+        Order second = createOrder(2L, OrderStatus.READY);
+        first.getItems().get(0).getProduct().setCategory(category);
+        second.getItems().get(0).getProduct().setCategory(category);
+        ProductResponse productResponse = new ProductResponse(1L, "Hambúrguer", null, null, true, List.of(), null);
+        when(itemMapper.productToResponse(any(Product.class))).thenReturn(productResponse);
+
+        // When
+        OrderDictionaryPageResponse result = orderMapper.domainPageToDictionaryResponse(
+                new PageImpl<>(List.of(first, second), PageRequest.of(0, 20), 2));
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertEquals(1, result.getProducts().size());
+        assertEquals("Hambúrguer", result.getProducts().get(1L).getName());
+        assertEquals(2, result.getTotalElements());
+        assertEquals(20, result.getSize());
+        verify(itemMapper, times(2)).domainListToCompactResponseList(anyList());
+        verify(itemMapper, times(1)).productToResponse(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Should copy an order onto its managed entity keeping existing item rows")
+    void givenManagedEntity_whenCopyingOrder_thenExistingItemsShouldBeUpdatedInPlace() {
+        // Given
+        ProductEntity product = new ProductEntity();
+        product.setId(1L);
+        OrderEntity managed = createOrderEntity(1L, OrderStatus.RECEIVED);
+        ItemEntity kept = new ItemEntity(10L, product, 1, managed);
+        ItemEntity dropped = new ItemEntity(11L, product, 4, managed);
+        managed.getItems().add(kept);
+        managed.getItems().add(dropped);
+        List<ItemEntity> managedItems = managed.getItems();
+
+        Order order = createOrder(1L, OrderStatus.IN_PREPARATION);
+        order.getItems().get(0).setId(10L);
+        order.getItems().get(0).setQuantity(3);
+
+        // When
+        orderMapper.copyToEntity(order, managed, id -> {
+            throw new AssertionError("Unchanged products should not be referenced again");
+        });
+
+        // Then
+        assertEquals("IN_PREPARATION", managed.getOrderStatus());
+        assertSame(managedItems, managed.getItems());
+        assertEquals(List.of(kept), managed.getItems());
+        assertEquals(3, kept.getQuantity());
+        assertSame(product, kept.getProduct());
+        verify(itemMapper, never()).domainListToEntityList(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reference the products of new items by id")
+    void givenNewItems_whenCopyingOrder_thenProductReferenceShouldBeUsed() {
+        // Given
+        ProductEntity reference = new ProductEntity();
+        reference.setId(1L);
+        OrderEntity entity = new OrderEntity();
+        Order order = createOrder(null, OrderStatus.SENT);
+
+        // When
+        orderMapper.copyToEntity(order, entity, id -> reference);
+
+        // Then
+        assertEquals(1, entity.getItems().size());
+        ItemEntity item = entity.getItems().get(0);
+        assertNull(item.getId());
+        assertSame(reference, item.getProduct());
+        assertSame(entity, item.getOrder());
+        assertEquals(2, item.getQuantity());
+    }
+
     @Test
     @DisplayName("Should map Order domain to OrderEntity")
     void givenOrderDomain_whenMappingToEntity_thenOrderEntityShouldBeCreated() {
@@ -255,6 +346,30 @@ class OrderMapperImplTest {
         return entity;
     }
 
+    @Test
+    @DisplayName("Should keep null fields in the full response and omit them in the compact view")
+    void givenNullFields_whenSerializing_thenOnlyCompactViewOmitsThem() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        OrderResponse full = new OrderResponse();
+        full.setId(1L);
+        CompactOrderResponse compact = new CompactOrderResponse();
+        compact.setId(1L);
+        compact.setItems(List.of(new CompactItemResponse(10L, null)));
+
+        // When
+        JsonNode fullJson = objectMapper.valueToTree(full);
+        JsonNode compactJson = objectMapper.valueToTree(compact);
+
+        // Then
+        assertTrue(fullJson.has("remainingTime"));
+        assertTrue(fullJson.get("remainingTime").isNull());
+        assertTrue(fullJson.has("receivedAt"));
+        assertFalse(compactJson.has("remainingTime"));
+        assertFalse(compactJson.has("receivedAt"));
+        assertFalse(compactJson.get("items").get(0).has("quantity"));
+    }
+
     private Item createItem(Long id, int quantity) {
         Product product = new Product();
         product.setId(1L);
@@ -3,11 +3,14 @@ package br.com.five.seven.food.adapter.out.api;
 import br.com.five.seven.food.adapter.out.api.client.ClientApiClient;
 import br.com.five.seven.food.adapter.out.api.response.ClientResponse;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -22,6 +25,9 @@ class ClientApiAdapterTest {
     @Mock
     private ClientApiClient clientApiClient;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ClientApiAdapter clientApiAdapter;
 
@@ -73,4 +79,40 @@ class ClientApiAdapterTest {
         assertEquals("Error communicating with Client API", exception.getMessage());
         verify(clientApiClient, times(1)).getClientByCpf(cpf);
     }
+
+    @Test
+    @DisplayName("Should record call latency tagged with the call outcome")
+    void givenClientApiCalls_whenGettingClient_thenLatencyShouldBeRecordedPerOutcome() {
+        // Given
+        when(clientApiClient.getClientByCpf("12345678900")).thenReturn(new ClientResponse());
+        when(clientApiClient.getClientByCpf("99999999999")).thenThrow(mock(FeignException.NotFound.class));
+
+        // When
+        clientApiAdapter.getClientByCpf("12345678900");
+        clientApiAdapter.getClientByCpf("99999999999");
+
+        // Then
+        assertEquals(1, meterRegistry.get(ClientApiAdapter.METRIC_NAME).tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ClientApiAdapter.METRIC_NAME).tag("outcome", "not_found").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count consecutive failures until the client API answers again")
+    void givenFailingThenAnsweringApi_whenGettingClient_thenFailuresShouldBeCountedAndReset() {
+        // Given
+        when(clientApiClient.getClientByCpf("12345678900"))
+                .thenThrow(mock(FeignException.class))
+                .thenThrow(mock(FeignException.class))
+                .thenThrow(mock(FeignException.NotFound.class));
+
+        // When
+        assertThrows(RuntimeException.class, () -> clientApiAdapter.getClientByCpf("12345678900"));
+        assertThrows(RuntimeException.class, () -> clientApiAdapter.getClientByCpf("12345678900"));
+        int failures = clientApiAdapter.consecutiveFailures();
+        clientApiAdapter.getClientByCpf("12345678900");
+
+        // Then
+        assertEquals(2, failures);
+        assertEquals(0, clientApiAdapter.consecutiveFailures());
+    }
 }
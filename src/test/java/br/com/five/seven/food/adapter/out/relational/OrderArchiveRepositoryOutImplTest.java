@@ -0,0 +1,99 @@
+package br.com.five.seven.food.adapter.out.relational;
+
+import br.com.five.seven.food.adapter.out.relational.entity.ArchivedOrderEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.ItemEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.entity.ProductEntity;
+import br.com.five.seven.food.adapter.out.relational.repository.ArchivedOrderRepository;
+import br.com.five.seven.food.adapter.out.relational.repository.OrderRepository;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Archive Repository Out Tests")
+class OrderArchiveRepositoryOutImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @InjectMocks
+    private OrderArchiveRepositoryOutImpl orderArchiveRepositoryOut;
+
+    @Test
+    @DisplayName("Should move finished orders to the archive and remove them from the active table")
+    @SuppressWarnings("unchecked")
+    void givenFinishedOrders_whenArchiving_thenOrdersShouldBeMovedToArchive() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        OrderEntity order = createFinishedOrder(1L);
+        List<OrderEntity> batch = List.of(order);
+        when(orderRepository.findByOrderStatusAndUpdatedAtBefore(eq(OrderStatus.FINISHED.name()), eq(cutoff), any(Pageable.class)))
+                .thenReturn(batch);
+
+        // When
+        int archived = orderArchiveRepositoryOut.archiveFinishedBefore(cutoff, 100);
+
+        // Then
+        assertEquals(1, archived);
+        ArgumentCaptor<List<ArchivedOrderEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(archivedOrderRepository, times(1)).saveAll(captor.capture());
+        ArchivedOrderEntity archivedOrder = captor.getValue().get(0);
+        assertEquals(1L, archivedOrder.getId());
+        assertTrue(archivedOrder.isNew());
+        assertNotNull(archivedOrder.getArchivedAt());
+        assertEquals(1, archivedOrder.getItems().size());
+        assertEquals(10L, archivedOrder.getItems().get(0).getId());
+        verify(orderRepository, times(1)).deleteAll(batch);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no finished orders older than the cutoff")
+    void givenNoFinishedOrders_whenArchiving_thenNothingShouldBeMoved() {
+        // Given
+        when(orderRepository.findByOrderStatusAndUpdatedAtBefore(anyString(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        int archived = orderArchiveRepositoryOut.archiveFinishedBefore(LocalDateTime.now(), 100);
+
+        // Then
+        assertEquals(0, archived);
+        verify(archivedOrderRepository, never()).saveAll(anyList());
+        verify(orderRepository, never()).deleteAll(anyList());
+    }
+
+    private OrderEntity createFinishedOrder(Long id) {
+        ProductEntity product = new ProductEntity();
+        product.setId(5L);
+        product.setPrice(BigDecimal.TEN);
+
+        OrderEntity order = new OrderEntity();
+        order.setId(id);
+        order.setOrderStatus(OrderStatus.FINISHED.name());
+        order.setTotalAmount(BigDecimal.TEN);
+        order.setCreatedAt(LocalDateTime.now().minusDays(10));
+        order.setUpdatedAt(LocalDateTime.now().minusDays(9));
+        order.addItem(new ItemEntity(10L, product, 1, order));
+        return order;
+    }
+}
@@ -1,10 +1,14 @@
 package br.com.five.seven.food.adapter.out.relational;
 
 import br.com.five.seven.food.adapter.in.mappers.OrderMapper;
+import br.com.five.seven.food.adapter.out.relational.entity.ArchivedOrderEntity;
 import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.adapter.out.relational.repository.ArchivedOrderRepository;
 import br.com.five.seven.food.adapter.out.relational.repository.OrderRepository;
+import br.com.five.seven.food.adapter.out.relational.repository.ProductRepository;
 import br.com.five.seven.food.application.domain.Order;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.infra.exceptions.ArchivedOrderException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,13 +19,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +38,12 @@ class OrderRepositoryOutImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
     @Mock
     private OrderMapper orderMapper;
 
@@ -60,6 +73,81 @@ class OrderRepositoryOutImplTest {
         assertNotNull(result);
         assertEquals(2, result.getTotalElements());
         verify(orderRepository, times(1)).findAll(pageable);
+        verifyNoInteractions(archivedOrderRepository);
+    }
+
+    @Test
+    @DisplayName("Should continue a finished orders page into the archive without counting it")
+    void givenArchivedOrders_whenFindingFinished_thenArchivedOrdersShouldFillThePage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        List<String> finished = List.of(OrderStatus.FINISHED.name());
+        OrderEntity active = createOrderEntity(3L, OrderStatus.FINISHED);
+        ArchivedOrderEntity archived = ArchivedOrderEntity.from(createOrderEntity(1L, OrderStatus.FINISHED), LocalDateTime.now());
+
+        when(orderRepository.findByOrderStatusIn(finished, pageable)).thenReturn(new PageImpl<>(List.of(active), pageable, 1));
+        when(archivedOrderRepository.estimateCount()).thenReturn(40L);
+        when(archivedOrderRepository.findAllBy(any(Pageable.class))).thenReturn(List.of(archived));
+        mapEntitiesToOrders();
+
+        // When
+        Page<Order> result = orderRepositoryOut.findAllByOrderStatus(List.of(OrderStatus.FINISHED), pageable);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertEquals(41, result.getTotalElements());
+        assertEquals(3L, result.getContent().get(0).getId());
+        assertEquals(1L, result.getContent().get(1).getId());
+        verify(archivedOrderRepository, never()).count();
+        verify(archivedOrderRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should not read archived rows when the active orders fill the page")
+    void givenFullActivePage_whenFindingFinished_thenArchiveShouldOnlyBeEstimated() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        List<String> finished = List.of(OrderStatus.FINISHED.name());
+        OrderEntity active = createOrderEntity(3L, OrderStatus.FINISHED);
+
+        when(orderRepository.findByOrderStatusIn(finished, pageable)).thenReturn(new PageImpl<>(List.of(active), pageable, 5));
+        when(archivedOrderRepository.estimateCount()).thenReturn(-1L);
+        when(archivedOrderRepository.count()).thenReturn(2L);
+        mapEntitiesToOrders();
+
+        // When
+        Page<Order> result = orderRepositoryOut.findAllByOrderStatus(List.of(OrderStatus.FINISHED), pageable);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertEquals(7, result.getTotalElements());
+        verify(archivedOrderRepository, never()).findAllBy(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should apply the caller's sort across active and archived orders")
+    void givenSortedRequest_whenFindingFinished_thenBothTablesShouldBeMergedInOrder() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id"));
+        Pageable head = PageRequest.of(0, 4, pageable.getSort());
+        List<String> finished = List.of(OrderStatus.FINISHED.name());
+        List<OrderEntity> active = List.of(createOrderEntity(9L, OrderStatus.FINISHED), createOrderEntity(4L, OrderStatus.FINISHED));
+        List<ArchivedOrderEntity> archived = List.of(
+                ArchivedOrderEntity.from(createOrderEntity(7L, OrderStatus.FINISHED), LocalDateTime.now()),
+                ArchivedOrderEntity.from(createOrderEntity(5L, OrderStatus.FINISHED), LocalDateTime.now()),
+                ArchivedOrderEntity.from(createOrderEntity(2L, OrderStatus.FINISHED), LocalDateTime.now()));
+
+        when(orderRepository.findByOrderStatusIn(finished, head)).thenReturn(new PageImpl<>(active, head, 2));
+        when(archivedOrderRepository.estimateCount()).thenReturn(3L);
+        when(archivedOrderRepository.findAllBy(head)).thenReturn(archived);
+        mapEntitiesToOrders();
+
+        // When
+        Page<Order> result = orderRepositoryOut.findAllByOrderStatus(List.of(OrderStatus.FINISHED), pageable);
+
+        // Then: 9, 7 | 5, 4 | 2
+        assertEquals(List.of(5L, 4L), result.getContent().stream().map(Order::getId).toList());
+        assertEquals(5, result.getTotalElements());
     }
 
     @Test
@@ -69,22 +157,22 @@ class OrderRepositoryOutImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         List<OrderStatus> statuses = List.of(OrderStatus.RECEIVED);
         OrderEntity entity1 = createOrderEntity(1L, OrderStatus.RECEIVED);
-        OrderEntity entity2 = createOrderEntity(2L, OrderStatus.IN_PREPARATION);
-        Page<OrderEntity> entityPage = new PageImpl<>(Arrays.asList(entity1, entity2), pageable, 2);
+        Page<OrderEntity> entityPage = new PageImpl<>(List.of(entity1), pageable, 1);
 
         Order order1 = createOrder(1L, OrderStatus.RECEIVED);
-        Order order2 = createOrder(2L, OrderStatus.IN_PREPARATION);
 
-        when(orderRepository.findAll(pageable)).thenReturn(entityPage);
+        when(orderRepository.findByOrderStatusIn(List.of(OrderStatus.RECEIVED.name()), pageable)).thenReturn(entityPage);
         when(orderMapper.entityToDomain(entity1)).thenReturn(order1);
-        when(orderMapper.entityToDomain(entity2)).thenReturn(order2);
 
         // When
         Page<Order> result = orderRepositoryOut.findAllByOrderStatus(statuses, pageable);
 
         // Then
         assertNotNull(result);
-        verify(orderRepository, times(1)).findAll(pageable);
+        assertEquals(1, result.getTotalElements());
+        assertEquals(OrderStatus.RECEIVED, result.getContent().get(0).getOrderStatus());
+        verify(orderRepository, times(1)).findByOrderStatusIn(List.of(OrderStatus.RECEIVED.name()), pageable);
+        verifyNoInteractions(archivedOrderRepository);
     }
 
     @Test
@@ -108,12 +196,34 @@ class OrderRepositoryOutImplTest {
         verify(orderRepository, times(1)).findById(orderId);
     }
 
+    @Test
+    @DisplayName("Should find archived order by ID when it is no longer active")
+    void givenArchivedOrderId_whenFindingById_thenArchivedOrderShouldBeReturned() {
+        // Given
+        Long orderId = 1L;
+        ArchivedOrderEntity archived = ArchivedOrderEntity.from(createOrderEntity(orderId, OrderStatus.FINISHED), LocalDateTime.now());
+        Order order = createOrder(orderId, OrderStatus.FINISHED);
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(archivedOrderRepository.findById(orderId)).thenReturn(Optional.of(archived));
+        when(orderMapper.entityToDomain(any(OrderEntity.class))).thenReturn(order);
+
+        // When
+        Order result = orderRepositoryOut.findById(orderId);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(OrderStatus.FINISHED, result.getOrderStatus());
+        verify(archivedOrderRepository, times(1)).findById(orderId);
+    }
+
     @Test
     @DisplayName("Should return null when order not found by ID")
     void givenNonExistentId_whenFindingById_thenNullShouldBeReturned() {
         // Given
         Long orderId = 999L;
         when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(archivedOrderRepository.findById(orderId)).thenReturn(Optional.empty());
 
         // When
         Order result = orderRepositoryOut.findById(orderId);
@@ -124,16 +234,14 @@ class OrderRepositoryOutImplTest {
     }
 
     @Test
-    @DisplayName("Should save order successfully")
-    void givenOrder_whenSaving_thenOrderShouldBeSaved() {
+    @DisplayName("Should persist a new order without merging")
+    void givenNewOrder_whenSaving_thenNewEntityShouldBePersisted() {
         // Given
         Order order = createOrder(null, OrderStatus.SENT);
-        OrderEntity entity = createOrderEntity(null, OrderStatus.SENT);
         OrderEntity savedEntity = createOrderEntity(1L, OrderStatus.SENT);
         Order savedOrder = createOrder(1L, OrderStatus.SENT);
 
-        when(orderMapper.domainToEntity(order)).thenReturn(entity);
-        when(orderRepository.save(entity)).thenReturn(savedEntity);
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(savedEntity);
         when(orderMapper.entityToDomain(savedEntity)).thenReturn(savedOrder);
 
         // When
@@ -143,7 +251,9 @@ class OrderRepositoryOutImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals(OrderStatus.SENT, result.getOrderStatus());
-        verify(orderRepository, times(1)).save(entity);
+        verify(orderMapper, times(1)).copyToEntity(eq(order), any(OrderEntity.class), any());
+        verify(orderRepository, never()).findById(any());
+        verify(orderMapper, never()).domainToEntity(any());
     }
 
     @Test
@@ -161,15 +271,14 @@ class OrderRepositoryOutImplTest {
     }
 
     @Test
-    @DisplayName("Should update order successfully")
-    void givenOrder_whenUpdating_thenOrderShouldBeUpdated() {
+    @DisplayName("Should update order on its managed entity")
+    void givenExistingOrder_whenUpdating_thenManagedEntityShouldBeChangedInPlace() {
         // Given
         Order order = createOrder(1L, OrderStatus.IN_PREPARATION);
-        OrderEntity entity = createOrderEntity(1L, OrderStatus.IN_PREPARATION);
+        OrderEntity managed = createOrderEntity(1L, OrderStatus.RECEIVED);
 
-        when(orderMapper.domainToEntity(order)).thenReturn(entity);
-        when(orderRepository.save(entity)).thenReturn(entity);
-        when(orderMapper.entityToDomain(entity)).thenReturn(order);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(managed));
+        when(orderMapper.entityToDomain(managed)).thenReturn(order);
 
         // When
         Order result = orderRepositoryOut.update(order);
@@ -178,7 +287,41 @@ class OrderRepositoryOutImplTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals(OrderStatus.IN_PREPARATION, result.getOrderStatus());
-        verify(orderRepository, times(1)).save(entity);
+        verify(orderMapper, times(1)).copyToEntity(eq(order), eq(managed), any());
+        verify(orderRepository, never()).save(any(OrderEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse to save an archived order instead of inserting it as a new active one")
+    void givenArchivedOrder_whenUpdating_thenArchivedOrderExceptionShouldBeThrown() {
+        // Given
+        Order order = createOrder(7L, OrderStatus.FINISHED);
+        when(orderRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedOrderRepository.existsById(7L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ArchivedOrderException.class, () -> orderRepositoryOut.update(order));
+        verify(orderRepository, never()).save(any(OrderEntity.class));
+        verify(orderMapper, never()).copyToEntity(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete an archived order")
+    void givenArchivedOrder_whenDeleting_thenArchivedOrderExceptionShouldBeThrown() {
+        // Given
+        when(orderRepository.existsById(7L)).thenReturn(false);
+        when(archivedOrderRepository.existsById(7L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ArchivedOrderException.class, () -> orderRepositoryOut.delete(7L));
+        verify(orderRepository, never()).deleteById(any());
+    }
+
+    private void mapEntitiesToOrders() {
+        when(orderMapper.entityToDomain(any(OrderEntity.class))).thenAnswer(invocation -> {
+            OrderEntity entity = invocation.getArgument(0);
+            return createOrder(entity.getId(), OrderStatus.valueOf(entity.getOrderStatus()));
+        });
     }
 
     private Order createOrder(Long id, OrderStatus status) {
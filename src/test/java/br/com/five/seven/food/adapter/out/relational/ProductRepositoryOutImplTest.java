@@ -126,16 +126,10 @@ class ProductRepositoryOutImplTest {
 
         ProductEntity entity1 = createProductEntity(1L, "Hambúrguer", BigDecimal.valueOf(25.90));
         entity1.setCategory(categoryEntity);
-        
-        ProductEntity entity2 = createProductEntity(2L, "Refrigerante", BigDecimal.valueOf(5.00));
-        CategoryEntity beverageCategory = new CategoryEntity();
-        beverageCategory.setId(2L);
-        beverageCategory.setName("Bebidas");
-        entity2.setCategory(beverageCategory);
 
         Product product1 = createProduct(1L, "Hambúrguer", BigDecimal.valueOf(25.90));
 
-        when(productRepository.findAll()).thenReturn(Arrays.asList(entity1, entity2));
+        when(productRepository.findByCategoryNameIgnoreCase(categoryName)).thenReturn(List.of(entity1));
         when(productMapper.toDomain(entity1)).thenReturn(product1);
 
         // When
@@ -145,7 +139,8 @@ class ProductRepositoryOutImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Hambúrguer", result.get(0).getName());
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findByCategoryNameIgnoreCase(categoryName);
+        verify(productRepository, never()).findAll();
     }
 
     @Test
@@ -183,14 +178,12 @@ class ProductRepositoryOutImplTest {
     }
 
     @Test
-    @DisplayName("Should handle products with null category when filtering by category")
-    void givenProductsWithNullCategory_whenGettingByCategory_thenOnlyProductsWithCategoryShouldBeReturned() {
+    @DisplayName("Should return no products when no product belongs to the category")
+    void givenNoProductsInCategory_whenGettingByCategory_thenEmptyListShouldBeReturned() {
         // Given
         String categoryName = "Lanches";
-        ProductEntity entity1 = createProductEntity(1L, "Hambúrguer", BigDecimal.valueOf(25.90));
-        entity1.setCategory(null);
 
-        when(productRepository.findAll()).thenReturn(Arrays.asList(entity1));
+        when(productRepository.findByCategoryNameIgnoreCase(categoryName)).thenReturn(List.of());
 
         // When
         List<Product> result = productRepositoryOut.getByCategory(categoryName);
@@ -198,7 +191,7 @@ class ProductRepositoryOutImplTest {
         // Then
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findByCategoryNameIgnoreCase(categoryName);
     }
 
     private Product createProduct(Long id, String name, BigDecimal price) {
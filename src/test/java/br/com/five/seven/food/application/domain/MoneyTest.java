@@ -0,0 +1,63 @@
+package br.com.five.seven.food.application.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should round amounts with more than two decimals half up to centavos")
+    void givenAmountWithThreeDecimals_whenConverting_thenItShouldRoundHalfUp() {
+        // When
+        long roundedUp = Money.toCents(new BigDecimal("10.005"));
+        long roundedDown = Money.toCents(new BigDecimal("10.004"));
+        long negative = Money.toCents(new BigDecimal("-10.005"));
+
+        // Then
+        assertEquals(1001, roundedUp);
+        assertEquals(1000, roundedDown);
+        assertEquals(-1001, negative);
+    }
+
+    @Test
+    @DisplayName("Should convert back to a BigDecimal with scale 2")
+    void givenCents_whenConvertingToBigDecimal_thenScaleShouldBeTwo() {
+        // Given
+        Money money = Money.ofCents(Money.toCents(new BigDecimal("25.9")));
+
+        // When
+        BigDecimal amount = money.toBigDecimal();
+
+        // Then
+        assertEquals(new BigDecimal("25.90"), amount);
+        assertEquals(2590, money.getCents());
+        assertEquals("25.90", money.toString());
+    }
+
+    @Test
+    @DisplayName("Should compare by centavos and reuse zero")
+    void givenSameCents_whenComparing_thenMoneyShouldBeEqual() {
+        // When
+        Money money = Money.ofCents(5930);
+
+        // Then
+        assertEquals(Money.ofCents(5930), money);
+        assertEquals(Money.ofCents(5930).hashCode(), money.hashCode());
+        assertSame(Money.ZERO, Money.ofCents(0));
+    }
+
+    @Test
+    @DisplayName("Should reject amounts that do not fit in a long of centavos")
+    void givenHugeAmount_whenConverting_thenArithmeticExceptionShouldBeThrown() {
+        // Given
+        BigDecimal huge = new BigDecimal("1e30");
+
+        // When & Then
+        assertThrows(ArithmeticException.class, () -> Money.toCents(huge));
+    }
+}
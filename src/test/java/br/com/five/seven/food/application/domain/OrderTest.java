@@ -0,0 +1,112 @@
+package br.com.five.seven.food.application.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Order Total Tests")
+class OrderTest {
+
+    @Test
+    @DisplayName("Should compute the same total as summing BigDecimal item prices")
+    void givenItems_whenCalculatingTotal_thenItShouldMatchTheBigDecimalSum() {
+        // Given
+        Order order = orderWith(item("25.90", 2), item("7.50", 3), item("0.99", 7), item("12", 1));
+        BigDecimal expected = order.getItems().stream()
+                .map(item -> item.getProduct().getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // When
+        BigDecimal total = order.calculateTotalAmount();
+
+        // Then
+        assertEquals(0, expected.compareTo(total));
+        assertEquals(2, total.scale());
+        assertEquals(Money.toCents(expected), order.calculateTotalCents());
+        assertEquals(9323, order.calculateTotalCents());
+    }
+
+    @Test
+    @DisplayName("Should return zero for an order without items")
+    void givenNoItems_whenCalculatingTotal_thenItShouldBeZero() {
+        // Given
+        Order order = orderWith();
+
+        // When
+        BigDecimal total = order.calculateTotalAmount();
+
+        // Then
+        assertEquals(new BigDecimal("0.00"), total);
+    }
+
+    @Test
+    @DisplayName("Should round prices with more than two decimals half up before multiplying")
+    void givenPriceWithThreeDecimals_whenCalculatingItemTotal_thenPriceShouldBeRoundedFirst() {
+        // Given
+        Item item = item("9.995", 3);
+
+        // When
+        BigDecimal total = item.getTotalPrice();
+
+        // Then
+        assertEquals(1000, item.getProduct().getPriceCents());
+        assertEquals(new BigDecimal("30.00"), total);
+        assertEquals(new BigDecimal("9.995"), item.getProduct().getPrice(), "The price itself is kept as given");
+    }
+
+    @Test
+    @DisplayName("Should fail when a product has no price")
+    void givenProductWithoutPrice_whenCalculatingTotal_thenIllegalStateExceptionShouldBeThrown() {
+        // Given
+        Product product = new Product();
+        product.setName("Sem preço");
+        Order order = orderWith(new Item(null, product, 1));
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, order::calculateTotalAmount);
+        assertEquals("Product 'Sem preço' does not have a price.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw instead of wrapping when an item total overflows")
+    void givenHugeQuantityTimesPrice_whenCalculatingItemTotal_thenArithmeticExceptionShouldBeThrown() {
+        // Given
+        Item item = new Item(null, product(BigDecimal.valueOf(Long.MAX_VALUE / 2, 2)), 3);
+
+        // When & Then
+        assertThrows(ArithmeticException.class, item::getTotalCents);
+    }
+
+    @Test
+    @DisplayName("Should throw instead of wrapping when the order total overflows")
+    void givenItemsSummingPastLongRange_whenCalculatingTotal_thenArithmeticExceptionShouldBeThrown() {
+        // Given
+        Product product = product(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+        Order order = orderWith(new Item(null, product, 1), new Item(null, product, 1));
+
+        // When & Then
+        assertThrows(ArithmeticException.class, order::calculateTotalCents);
+    }
+
+    private static Order orderWith(Item... items) {
+        Order order = new Order();
+        order.setItems(new ArrayList<>(List.of(items)));
+        return order;
+    }
+
+    private static Item item(String price, int quantity) {
+        return new Item(null, product(new BigDecimal(price)), quantity);
+    }
+
+    private static Product product(BigDecimal price) {
+        Product product = new Product();
+        product.setName("Produto");
+        product.setPrice(price);
+        return product;
+    }
+}
@@ -4,17 +4,22 @@ import br.com.five.seven.food.adapter.out.api.response.ClientResponse;
 import br.com.five.seven.food.application.domain.Category;
 import br.com.five.seven.food.application.domain.Item;
 import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.OrderStatusTransition;
 import br.com.five.seven.food.application.domain.Product;
 import br.com.five.seven.food.application.domain.enums.OrderStatus;
 import br.com.five.seven.food.application.ports.in.CategoryServiceIn;
 import br.com.five.seven.food.application.ports.out.IClientApiOut;
+import br.com.five.seven.food.application.ports.out.IOrderMetricsOut;
 import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import br.com.five.seven.food.application.ports.out.IOrderTimelineOut;
 import br.com.five.seven.food.application.ports.out.IProductRepositoryOut;
+import br.com.five.seven.food.application.ports.out.ISalesRollupOut;
 import br.com.five.seven.food.infra.exceptions.ClientNotFoundException;
 import jakarta.xml.bind.ValidationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +29,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -50,6 +56,15 @@ class OrderServiceTest {
     @Mock
     private IClientApiOut clientApiOut;
 
+    @Mock
+    private IOrderMetricsOut orderMetrics;
+
+    @Mock
+    private IOrderTimelineOut orderTimeline;
+
+    @Mock
+    private ISalesRollupOut salesRollup;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -258,6 +273,53 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).update(any(Order.class));
     }
 
+    @Test
+    @DisplayName("Scenario: A status change through update is recorded like any other transition")
+    void givenReadyOrder_whenUpdatingToFinished_thenTransitionShouldBeRecorded() throws ValidationException {
+        // Given: A READY order and update data that finishes it
+        Order existingOrder = createValidOrder(1L, OrderStatus.READY);
+        existingOrder.setStatusChangedAt(LocalDateTime.now().minusMinutes(5));
+        Order updateData = createValidOrder(null, OrderStatus.FINISHED);
+
+        when(orderRepository.findById(1L)).thenReturn(existingOrder);
+        when(orderRepository.update(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: Updating the order
+        Order result = orderService.update(1L, updateData);
+
+        // Then: The transition should reach the timeline, the metrics and the sales rollup
+        ArgumentCaptor<OrderStatusTransition> captor = ArgumentCaptor.forClass(OrderStatusTransition.class);
+        verify(orderTimeline, times(1)).append(captor.capture());
+        assertEquals(OrderStatus.READY, captor.getValue().getFromStatus());
+        assertEquals(OrderStatus.FINISHED, captor.getValue().getToStatus());
+        assertEquals(5, captor.getValue().getDwell().toMinutes());
+        verify(orderMetrics, times(1)).statusChanged(eq(OrderStatus.READY), eq(OrderStatus.FINISHED), any(Duration.class));
+        verify(salesRollup, times(1)).recordFinishedOrder(eq(result), any(LocalDateTime.class));
+        assertEquals(captor.getValue().getChangedAt(), result.getStatusChangedAt());
+    }
+
+    @Test
+    @DisplayName("Scenario: An update that keeps the status records no transition and keeps its timestamps")
+    void givenOrder_whenUpdatingWithoutStatusChange_thenNoTransitionShouldBeRecorded() throws ValidationException {
+        // Given: An order in preparation and update data with the same status
+        Order existingOrder = createValidOrder(1L, OrderStatus.IN_PREPARATION);
+        LocalDateTime enteredAt = LocalDateTime.now().minusMinutes(3);
+        existingOrder.setStatusChangedAt(enteredAt);
+        Order updateData = createValidOrder(null, OrderStatus.IN_PREPARATION);
+        updateData.setReceivedAt(null);
+
+        when(orderRepository.findById(1L)).thenReturn(existingOrder);
+        when(orderRepository.update(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: Updating the order
+        Order result = orderService.update(1L, updateData);
+
+        // Then: Nothing is recorded and the stored timestamps survive
+        verifyNoInteractions(orderTimeline, orderMetrics, salesRollup);
+        assertEquals(enteredAt, result.getStatusChangedAt());
+        assertEquals(existingOrder.getReceivedAt(), result.getReceivedAt());
+    }
+
     @Test
     @DisplayName("Scenario: Successfully update order items")
     void givenExistingOrder_whenUpdatingOrderItems_thenItemsShouldBeUpdated() throws ValidationException {
@@ -361,9 +423,34 @@ class OrderServiceTest {
         // When: Advancing the order status
         Order result = orderService.advanceOrderStatus(1L);
 
-        // Then: Status should advance to FINISHED
+        // Then: Status should advance to FINISHED, the transition should be measured and the sale counted
         assertEquals(OrderStatus.FINISHED, result.getOrderStatus(), "Status should be FINISHED");
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderMetrics, times(1)).statusChanged(eq(OrderStatus.READY), eq(OrderStatus.FINISHED), any(Duration.class));
+        verify(salesRollup, times(1)).recordFinishedOrder(eq(order), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Scenario: Advancing the status appends the time spent in the previous one to the timeline")
+    void givenOrderInPreparationForTenMinutes_whenAdvancingStatus_thenTransitionShouldBeAppendedToTimeline() {
+        // Given: An order that entered IN_PREPARATION ten minutes ago
+        Order order = createValidOrder(1L, OrderStatus.IN_PREPARATION);
+        order.setStatusChangedAt(LocalDateTime.now().minusMinutes(10));
+        when(orderRepository.findById(1L)).thenReturn(order);
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        // When: Advancing the order status
+        orderService.advanceOrderStatus(1L);
+
+        // Then: The transition should be logged with the dwell time of IN_PREPARATION
+        ArgumentCaptor<OrderStatusTransition> captor = ArgumentCaptor.forClass(OrderStatusTransition.class);
+        verify(orderTimeline, times(1)).append(captor.capture());
+        OrderStatusTransition transition = captor.getValue();
+        assertEquals(1L, transition.getOrderId());
+        assertEquals(OrderStatus.IN_PREPARATION, transition.getFromStatus());
+        assertEquals(OrderStatus.READY, transition.getToStatus());
+        assertEquals(10, transition.getDwell().toMinutes(), "Dwell should be measured from the status change");
+        assertEquals(transition.getChangedAt(), order.getStatusChangedAt(), "Order should record when it entered READY");
     }
 
     @Test
@@ -0,0 +1,88 @@
+package br.com.five.seven.food.application.service;
+
+import br.com.five.seven.food.application.domain.DwellHistogram;
+import br.com.five.seven.food.application.domain.DwellRollup;
+import br.com.five.seven.food.application.domain.DwellTimeStats;
+import br.com.five.seven.food.application.domain.enums.OrderStatus;
+import br.com.five.seven.food.application.ports.out.IOrderTimelineOut;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Timeline Service BDD Tests")
+class OrderTimelineServiceTest {
+
+    private static final LocalDateTime HOUR = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    @Mock
+    private IOrderTimelineOut orderTimeline;
+
+    @InjectMocks
+    private OrderTimelineService orderTimelineService;
+
+    @Test
+    @DisplayName("Scenario: Percentiles per status are computed from the hourly rollups of the range")
+    void givenRollupsInTwoHours_whenGettingDwellTimesPerStatus_thenHoursShouldBeMerged() {
+        // Given: 90 fast and 10 slow preparations spread over two hours
+        int fast = DwellHistogram.bucketOf(Duration.ofMinutes(4));
+        int slow = DwellHistogram.bucketOf(Duration.ofMinutes(25));
+        when(orderTimeline.findRollups(HOUR, HOUR.plusHours(1))).thenReturn(List.of(
+                new DwellRollup(OrderStatus.IN_PREPARATION, HOUR, fast, 50),
+                new DwellRollup(OrderStatus.IN_PREPARATION, HOUR.plusHours(1), fast, 40),
+                new DwellRollup(OrderStatus.IN_PREPARATION, HOUR.plusHours(1), slow, 10)
+        ));
+
+        // When: Getting the dwell times of the range
+        List<DwellTimeStats> stats = orderTimelineService.getDwellTimesPerStatus(HOUR.plusMinutes(5), HOUR.plusMinutes(70));
+
+        // Then: A single entry with the bucket bounds holding each percentile is returned
+        assertEquals(1, stats.size());
+        DwellTimeStats preparation = stats.get(0);
+        assertEquals(OrderStatus.IN_PREPARATION, preparation.getStatus());
+        assertNull(preparation.getHourStart());
+        assertEquals(100, preparation.getSamples());
+        assertEquals(Duration.ofMinutes(5), preparation.getP50());
+        assertEquals(Duration.ofMinutes(30), preparation.getP95());
+        assertEquals(Duration.ofMinutes(30), preparation.getP99());
+    }
+
+    @Test
+    @DisplayName("Scenario: Percentiles per hour keep each hour separate and ordered")
+    void givenRollupsInTwoHours_whenGettingDwellTimesPerHour_thenOneEntryPerHourShouldBeReturned() {
+        // Given: Rollups of the READY status in two hours
+        when(orderTimeline.findRollups(HOUR, HOUR.plusHours(1))).thenReturn(List.of(
+                new DwellRollup(OrderStatus.READY, HOUR.plusHours(1), DwellHistogram.bucketOf(Duration.ofSeconds(50)), 3),
+                new DwellRollup(OrderStatus.READY, HOUR, DwellHistogram.bucketOf(Duration.ofSeconds(20)), 2)
+        ));
+
+        // When: Getting the dwell times per hour
+        List<DwellTimeStats> stats = orderTimelineService.getDwellTimesPerHour(HOUR, HOUR.plusHours(1));
+
+        // Then: Each hour has its own percentiles
+        assertEquals(2, stats.size());
+        assertEquals(HOUR, stats.get(0).getHourStart());
+        assertEquals(Duration.ofSeconds(30), stats.get(0).getP99());
+        assertEquals(HOUR.plusHours(1), stats.get(1).getHourStart());
+        assertEquals(Duration.ofSeconds(60), stats.get(1).getP50());
+    }
+
+    @Test
+    @DisplayName("Scenario: Fail to get dwell times of an inverted range")
+    void givenInvertedRange_whenGettingDwellTimes_thenIllegalArgumentExceptionShouldBeThrown() {
+        // When/Then: The start after the end is rejected
+        assertThrows(IllegalArgumentException.class,
+                () -> orderTimelineService.getDwellTimesPerStatus(HOUR.plusHours(1), HOUR));
+        verifyNoInteractions(orderTimeline);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.five.seven.food.application.service;
+
+import br.com.five.seven.food.application.domain.Money;
+import br.com.five.seven.food.application.domain.ProductSales;
+import br.com.five.seven.food.application.domain.SalesPeriod;
+import br.com.five.seven.food.application.ports.out.ISalesRollupOut;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sales Analytics Service BDD Tests")
+class SalesAnalyticsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+
+    @Mock
+    private ISalesRollupOut salesRollup;
+
+    @InjectMocks
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Test
+    @DisplayName("Scenario: Revenue per day is read from the daily rollups")
+    void givenDailyRollups_whenGettingRevenuePerDay_thenRollupsShouldBeReturned() {
+        // Given: Two days with finished orders
+        List<SalesPeriod> days = List.of(
+                new SalesPeriod(DAY.atStartOfDay(), 3, Money.ofCents(4_500)),
+                new SalesPeriod(DAY.plusDays(1).atStartOfDay(), 1, Money.ofCents(1_990)));
+        when(salesRollup.findDaily(DAY, DAY.plusDays(1))).thenReturn(days);
+
+        // When: Getting the revenue per day
+        List<SalesPeriod> result = salesAnalyticsService.getRevenuePerDay(DAY, DAY.plusDays(1));
+
+        // Then: The rollups are returned as they are
+        assertSame(days, result);
+    }
+
+    @Test
+    @DisplayName("Scenario: Revenue per product is ordered by revenue without a limit")
+    void givenRange_whenGettingRevenuePerProduct_thenProductsShouldBeOrderedByRevenue() {
+        // Given: A product sold in the range
+        List<ProductSales> products = List.of(new ProductSales(1L, "X-Burger", 2, Money.ofCents(5_000)));
+        when(salesRollup.findByProduct(DAY, DAY, false, Integer.MAX_VALUE)).thenReturn(products);
+
+        // When: Getting the revenue per product
+        List<ProductSales> result = salesAnalyticsService.getRevenuePerProduct(DAY, DAY);
+
+        // Then: Every product is returned
+        assertSame(products, result);
+    }
+
+    @Test
+    @DisplayName("Scenario: Top sellers are ordered by quantity and limited")
+    void givenLimit_whenGettingTopSellers_thenProductsShouldBeOrderedByQuantity() {
+        // Given: A product sold in the range
+        List<ProductSales> products = List.of(new ProductSales(1L, "X-Burger", 7, Money.ofCents(17_500)));
+        when(salesRollup.findByProduct(DAY, DAY.plusDays(6), true, 5)).thenReturn(products);
+
+        // When: Getting the top five sellers of the week
+        List<ProductSales> result = salesAnalyticsService.getTopSellers(DAY, DAY.plusDays(6), 5);
+
+        // Then: The best sellers are returned
+        assertSame(products, result);
+    }
+
+    @Test
+    @DisplayName("Scenario: Fail to get top sellers with a limit out of bounds")
+    void givenLimitAboveMaximum_whenGettingTopSellers_thenShouldThrowException() {
+        // When / Then: An invalid limit is rejected before reaching the rollups
+        assertThrows(IllegalArgumentException.class,
+                () -> salesAnalyticsService.getTopSellers(DAY, DAY, SalesAnalyticsService.MAX_TOP_SELLERS + 1));
+        assertThrows(IllegalArgumentException.class, () -> salesAnalyticsService.getTopSellers(DAY, DAY, 0));
+        verify(salesRollup, never()).findByProduct(any(), any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Scenario: Fail to get sales when the range is inverted")
+    void givenStartAfterEnd_whenGettingRevenuePerCategory_thenShouldThrowException() {
+        // When / Then: The inverted range is rejected
+        assertThrows(IllegalArgumentException.class,
+                () -> salesAnalyticsService.getRevenuePerCategory(DAY.plusDays(1), DAY));
+        verify(salesRollup, never()).findByCategory(any(), any());
+    }
+
+    @Test
+    @DisplayName("Scenario: Rebuilding returns the number of finished orders counted")
+    void givenFinishedOrders_whenRebuilding_thenCountShouldBeReturned() {
+        // Given: The rollups are rebuilt from 42 finished orders
+        when(salesRollup.rebuild()).thenReturn(42L);
+
+        // When: Rebuilding the rollups
+        long orders = salesAnalyticsService.rebuild();
+
+        // Then: The number of orders counted is returned
+        assertEquals(42L, orders);
+    }
+}
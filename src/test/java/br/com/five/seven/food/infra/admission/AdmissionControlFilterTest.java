@@ -0,0 +1,105 @@
+package br.com.five.seven.food.infra.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Admission Control Filter Tests")
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionControlProperties properties;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionControlProperties();
+        properties.setWrite(new AdmissionControlProperties.Limit(1, 1, 1));
+        properties.setRead(new AdmissionControlProperties.Limit(1, 1, 1));
+        filter = new AdmissionControlFilter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should shed a write over the limit with 503 and Retry-After")
+    void givenWriteBudgetTaken_whenCreatingOrder_thenServiceUnavailable() throws Exception {
+        // Given
+        assertNotEquals(GradientConcurrencyLimiter.REJECTED, filter.limiter(AdmissionControlFilter.WRITE).tryAcquire());
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/v1/orders"), response, chain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        verifyNoInteractions(chain);
+        assertEquals(1, meterRegistry.get("orders.admission.rejected").tag("budget", "write").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep serving menu reads while the write budget is exhausted")
+    void givenWriteBudgetTaken_whenReadingMenu_thenRequestShouldPass() throws Exception {
+        // Given
+        assertNotEquals(GradientConcurrencyLimiter.REJECTED, filter.limiter(AdmissionControlFilter.WRITE).tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/products"), response, chain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(0, filter.limiter(AdmissionControlFilter.READ).getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should release the slot even when the request fails")
+    void givenFailingRequest_whenFiltering_thenSlotShouldBeReleased() throws Exception {
+        // Given
+        FilterChain chain = mock(FilterChain.class);
+        doThrow(new IllegalStateException("boom")).when(chain).doFilter(any(), any());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("PUT", "/v1/orders/1"), new MockHttpServletResponse(), chain));
+
+        // Then
+        assertEquals(0, filter.limiter(AdmissionControlFilter.WRITE).getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should only limit order writes and menu and monitor reads")
+    void givenRequests_whenClassifying_thenBudgetShouldMatchRoute() {
+        assertEquals(AdmissionControlFilter.WRITE, AdmissionControlFilter.budget(new MockHttpServletRequest("POST", "/v1/orders")));
+        assertEquals(AdmissionControlFilter.WRITE, AdmissionControlFilter.budget(new MockHttpServletRequest("PUT", "/v1/orders/update-status")));
+        assertEquals(AdmissionControlFilter.READ, AdmissionControlFilter.budget(new MockHttpServletRequest("GET", "/v1/categories")));
+        assertEquals(AdmissionControlFilter.READ, AdmissionControlFilter.budget(new MockHttpServletRequest("GET", "/v1/orders/monitor/status")));
+        assertNull(AdmissionControlFilter.budget(new MockHttpServletRequest("GET", "/v1/orders")));
+        assertNull(AdmissionControlFilter.budget(new MockHttpServletRequest("GET", "/health/readiness")));
+    }
+
+    @Test
+    @DisplayName("Should pass every request through when disabled")
+    void givenDisabled_whenBudgetTaken_thenRequestShouldPass() throws Exception {
+        // Given
+        properties.setEnabled(false);
+        assertNotEquals(GradientConcurrencyLimiter.REJECTED, filter.limiter(AdmissionControlFilter.WRITE).tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/v1/orders"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.five.seven.food.infra.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Gradient Concurrency Limiter Tests")
+class GradientConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final GradientConcurrencyLimiter limiter =
+            new GradientConcurrencyLimiter(new AdmissionControlProperties.Limit(10, 2, 40));
+
+    @Test
+    @DisplayName("Should reject acquisitions over the limit until a slot is released")
+    void givenFullLimit_whenAcquiring_thenItShouldBeRejected() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i, limiter.tryAcquire());
+        }
+
+        // When
+        int overLimit = limiter.tryAcquire();
+        limiter.release(FAST, 10);
+        int afterRelease = limiter.tryAcquire();
+
+        // Then
+        assertEquals(GradientConcurrencyLimiter.REJECTED, overLimit);
+        assertEquals(10, afterRelease);
+        assertEquals(10, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should judge a release by the concurrency its request started under")
+    void givenRequestStartedAlone_whenReleasedUnderLoad_thenLimitShouldNotChange() {
+        // Given
+        int startedAlone = limiter.tryAcquire();
+        for (int i = 0; i < 9; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.release(SLOW, startedAlone);
+        limiter.release(FAST, startedAlone);
+
+        // Then
+        assertEquals(1, startedAlone);
+        assertEquals(10, limiter.getLimit());
+        assertEquals(8, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays steady under load")
+    void givenSteadyLatency_whenSampling_thenLimitShouldGrowUpToMax() {
+        // When
+        for (int i = 0; i < 500; i++) {
+            limiter.onSample(FAST, limiter.getLimit());
+        }
+
+        // Then
+        assertEquals(40, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency climbs")
+    void givenRisingLatency_whenSampling_thenLimitShouldShrink() {
+        // Given
+        for (int i = 0; i < 500; i++) {
+            limiter.onSample(FAST, limiter.getLimit());
+        }
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(SLOW, limiter.getLimit());
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < 10);
+        assertTrue(limiter.getLimit() >= 2);
+    }
+
+    @Test
+    @DisplayName("Should keep the limit when far fewer requests are in flight")
+    void givenLowConcurrency_whenSampling_thenLimitShouldNotChange() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(i % 2 == 0 ? FAST : SLOW, 1);
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.five.seven.food.infra.aot;
+
+import br.com.five.seven.food.adapter.in.mappers.impl.OrderMapperImpl;
+import br.com.five.seven.food.adapter.in.payload.order.CreateOrderRequest;
+import br.com.five.seven.food.adapter.in.payload.order.OrderResponse;
+import br.com.five.seven.food.adapter.out.api.client.ClientApiClient;
+import br.com.five.seven.food.adapter.out.api.response.ClientResponse;
+import br.com.five.seven.food.adapter.out.relational.entity.OrderEntity;
+import br.com.five.seven.food.infra.annotations.order.SwaggerCreateOrder;
+import io.swagger.v3.oas.annotations.Operation;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Orders Runtime Hints Tests")
+class OrdersRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new OrdersRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register payloads and the client API response for Jackson binding")
+    void givenPayloads_whenRegisteringHints_thenTheyShouldBeBindable() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CreateOrderRequest.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ClientResponse.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register entities and mappers for reflection")
+    void givenEntitiesAndMappers_whenRegisteringHints_thenTheyShouldBeReflective() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderEntity.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderMapperImpl.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(SwaggerCreateOrder.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the JDK proxies of Feign, synthesized Swagger annotations and datasource-proxy")
+    void givenProxiedInterfaces_whenRegisteringHints_thenProxiesShouldBeRegistered() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ClientApiClient.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Operation.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class).test(hints));
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.five.seven.food.infra.crac;
+
+import br.com.five.seven.food.infra.startup.OrderWarmUp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Checkpoint After Warm-Up Tests")
+class CheckpointAfterWarmUpTest {
+
+    @Mock
+    private OrderWarmUp warmUp;
+
+    @Test
+    @DisplayName("Should neither warm up nor checkpoint unless enabled")
+    void givenCheckpointDisabled_whenRunning_thenNothingShouldHappen() throws Exception {
+        // Given
+        CheckpointAfterWarmUp runner = new CheckpointAfterWarmUp(new CheckpointProperties(), warmUp);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(warmUp);
+    }
+}
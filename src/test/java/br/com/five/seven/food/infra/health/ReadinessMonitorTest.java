@@ -0,0 +1,171 @@
+package br.com.five.seven.food.infra.health;
+
+import br.com.five.seven.food.adapter.in.payload.health.ReadinessResponse;
+import br.com.five.seven.food.adapter.out.api.ClientApiAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Readiness Monitor Tests")
+class ReadinessMonitorTest {
+
+    @Mock
+    private ApplicationAvailability availability;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private ClientApiAdapter clientApiAdapter;
+
+    private ReadinessMonitor monitor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReadinessProperties properties = new ReadinessProperties();
+        properties.setSaturatedChecks(2);
+        properties.setClientApiFailureThreshold(3);
+        monitor = new ReadinessMonitor(availability, dataSource, clientApiAdapter, properties);
+
+        lenient().when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        lenient().when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        lenient().when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    @DisplayName("Should report ready when the database answers and the pool has room")
+    void givenHealthyDatabase_whenRefreshed_thenReady() throws SQLException {
+        // Given
+        when(connection.isValid(1)).thenReturn(true);
+        when(pool.getActiveConnections()).thenReturn(3);
+        when(pool.getIdleConnections()).thenReturn(7);
+
+        // When
+        monitor.refresh();
+        ReadinessResponse readiness = monitor.current();
+
+        // Then
+        assertTrue(readiness.isReady());
+        assertEquals(ReadinessResponse.UP, readiness.getDatabase());
+        assertEquals(3, readiness.getConnectionPool().getActive());
+        assertEquals(7, readiness.getConnectionPool().getIdle());
+        assertNotNull(readiness.getCheckedAt());
+    }
+
+    @Test
+    @DisplayName("Should serve probes from the cached state without borrowing a connection")
+    void givenRefreshedState_whenProbedRepeatedly_thenDatabaseShouldBeCheckedOnce() throws SQLException {
+        // Given
+        when(connection.isValid(1)).thenReturn(true);
+        monitor.refresh();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            monitor.current();
+        }
+
+        // Then
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should stay unready until the first refresh")
+    void givenNoRefreshYet_whenProbed_thenDatabaseShouldBeUnknown() {
+        // When
+        ReadinessResponse readiness = monitor.current();
+
+        // Then
+        assertFalse(readiness.isReady());
+        assertEquals(ReadinessResponse.UNKNOWN, readiness.getDatabase());
+    }
+
+    @Test
+    @DisplayName("Should report not ready when the database is unreachable")
+    void givenUnreachableDatabase_whenRefreshed_thenNotReady() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        monitor.refresh();
+        ReadinessResponse readiness = monitor.current();
+
+        // Then
+        assertFalse(readiness.isReady());
+        assertEquals(ReadinessResponse.DOWN, readiness.getDatabase());
+    }
+
+    @Test
+    @DisplayName("Should report not ready while the warm-up holds the application refusing traffic")
+    void givenWarmUpRunning_whenProbed_thenNotReady() throws SQLException {
+        // Given
+        when(connection.isValid(1)).thenReturn(true);
+        when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+        monitor.refresh();
+
+        // When
+        ReadinessResponse readiness = monitor.current();
+
+        // Then
+        assertFalse(readiness.isReady());
+        assertEquals("REFUSING_TRAFFIC", readiness.getAvailability());
+    }
+
+    @Test
+    @DisplayName("Should mark the pool saturated after consecutive checks and skip the database check")
+    void givenExhaustedPool_whenRefreshedRepeatedly_thenSaturated() throws SQLException {
+        // Given
+        when(connection.isValid(1)).thenReturn(true);
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(4);
+
+        // When
+        monitor.refresh();
+        boolean readyAfterFirstCheck = monitor.current().isReady();
+        monitor.refresh();
+        ReadinessResponse readiness = monitor.current();
+
+        // Then
+        assertTrue(readyAfterFirstCheck);
+        assertFalse(readiness.isReady());
+        assertTrue(readiness.getConnectionPool().isSaturated());
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should report the client API degraded without refusing traffic")
+    void givenFailingClientApi_whenProbed_thenDegradedButReady() throws SQLException {
+        // Given
+        when(connection.isValid(1)).thenReturn(true);
+        when(clientApiAdapter.consecutiveFailures()).thenReturn(3);
+        monitor.refresh();
+
+        // When
+        ReadinessResponse readiness = monitor.current();
+
+        // Then
+        assertTrue(readiness.isReady());
+        assertEquals(ReadinessResponse.DEGRADED, readiness.getClientApi());
+    }
+}
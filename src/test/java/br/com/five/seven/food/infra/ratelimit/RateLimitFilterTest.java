@@ -0,0 +1,169 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.Servlet;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Rate Limit Filter Tests")
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FilterChain chain = mock(FilterChain.class);
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route monitor = new RateLimitProperties.Route();
+        monitor.setName("monitor");
+        monitor.setMethod("GET");
+        monitor.setPattern("/v1/orders/monitor/**");
+        monitor.setCapacity(2);
+        monitor.setRefillPerSecond(0.1);
+        properties = new RateLimitProperties();
+        properties.setRoutes(List.of(monitor));
+        properties.setApiKeys(List.of("kiosk-7"));
+        rateLimiter = new RateLimiter(properties);
+        filter = new RateLimitFilter(rateLimiter, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client spends its tokens")
+    void givenPollingKiosk_whenOverLimit_thenTooManyRequests() throws Exception {
+        // Given
+        filter.doFilter(monitorRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+        filter.doFilter(monitorRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(monitorRequest("10.0.0.1"), response, chain);
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("10", response.getHeader("Retry-After"));
+        verify(chain, times(2)).doFilter(any(), any());
+        assertEquals(1, meterRegistry.get(RateLimitFilter.METRIC_NAME).tag("route", "monitor").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per remote address and per API key")
+    void givenDifferentClients_whenPolling_thenEachShouldHaveItsOwnBucket() throws Exception {
+        // Given
+        MockHttpServletRequest withKey = monitorRequest("10.0.0.1");
+        withKey.addHeader("X-API-Key", "kiosk-7");
+        filter.doFilter(monitorRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+        filter.doFilter(monitorRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // When
+        MockHttpServletResponse otherAddress = new MockHttpServletResponse();
+        filter.doFilter(monitorRequest("10.0.0.2"), otherAddress, chain);
+        MockHttpServletResponse apiKey = new MockHttpServletResponse();
+        filter.doFilter(withKey, apiKey, chain);
+
+        // Then
+        assertEquals(200, otherAddress.getStatus());
+        assertEquals(200, apiKey.getStatus());
+        verify(chain, times(4)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep limiting by remote address when the client rotates unknown API keys")
+    void givenRotatingUnknownKeys_whenPolling_thenRemoteAddressShouldStillBeLimited() throws Exception {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = monitorRequest("10.0.0.1");
+            request.addHeader("X-API-Key", "random-" + i);
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+        }
+        MockHttpServletRequest rotated = monitorRequest("10.0.0.1");
+        rotated.addHeader("X-API-Key", "random-2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(rotated, response, chain);
+
+        // Then
+        assertEquals(429, response.getStatus());
+        verify(chain, times(2)).doFilter(any(), any());
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("Should send new clients to a shared bucket once max-buckets is reached")
+    void givenFullBucketMap_whenNewClientsPoll_thenTheyShouldShareTheOverflowBucket() throws Exception {
+        // Given
+        properties.setMaxBuckets(1);
+        filter.doFilter(monitorRequest("10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // When
+        for (int i = 2; i <= 4; i++) {
+            filter.doFilter(monitorRequest("10.0.0." + i), new MockHttpServletResponse(), chain);
+        }
+
+        // Then
+        assertEquals(2, rateLimiter.size());
+        verify(chain, times(3)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should key clients by the forwarded address when requests come through the ALB")
+    void givenRequestsThroughTheAlb_whenPolling_thenEachForwardedClientShouldHaveItsOwnBucket() throws Exception {
+        // Given: Tomcat's remote IP handling with the internal proxies of application-prd.yml
+        RemoteIpFilter remoteIp = new RemoteIpFilter();
+        remoteIp.setInternalProxies("10\\.0\\.\\d{1,3}\\.\\d{1,3}");
+        remoteIp.setRemoteIpHeader("X-Forwarded-For");
+        Servlet servlet = mock(Servlet.class);
+        for (int i = 0; i < 2; i++) {
+            new MockFilterChain(servlet, remoteIp, filter)
+                    .doFilter(forwardedMonitorRequest("203.0.113.7"), new MockHttpServletResponse());
+        }
+        MockHttpServletResponse sameKiosk = new MockHttpServletResponse();
+        MockHttpServletResponse otherKiosk = new MockHttpServletResponse();
+
+        // When
+        new MockFilterChain(servlet, remoteIp, filter).doFilter(forwardedMonitorRequest("203.0.113.7"), sameKiosk);
+        new MockFilterChain(servlet, remoteIp, filter).doFilter(forwardedMonitorRequest("203.0.113.8"), otherKiosk);
+
+        // Then
+        assertEquals(429, sameKiosk.getStatus());
+        assertEquals(200, otherKiosk.getStatus());
+        verify(servlet, times(3)).service(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not limit routes without a configured limit")
+    void givenUnlimitedRoute_whenCalledRepeatedly_thenRequestsShouldPass() throws Exception {
+        // When
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/v1/orders"), new MockHttpServletResponse(), chain);
+        }
+
+        // Then
+        verify(chain, times(5)).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest forwardedMonitorRequest(String clientAddress) {
+        MockHttpServletRequest request = monitorRequest("10.0.12.34");
+        request.addHeader("X-Forwarded-For", clientAddress + ", 10.0.3.21");
+        return request;
+    }
+
+    private static MockHttpServletRequest monitorRequest(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/orders/monitor/status");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Rate Limit Sync Tests")
+class RateLimitSyncTest {
+
+    @Mock
+    private RateLimitExchange exchange;
+
+    private RateLimitProperties.Route route;
+    private RateLimiter rateLimiter;
+    private RateLimitSync sync;
+
+    @BeforeEach
+    void setUp() {
+        route = new RateLimitProperties.Route();
+        route.setName("monitor");
+        route.setPattern("/v1/orders/monitor/**");
+        route.setCapacity(3);
+        route.setRefillPerSecond(0.01);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        rateLimiter = new RateLimiter(properties);
+        sync = new RateLimitSync(rateLimiter, exchange, properties);
+    }
+
+    @Test
+    @DisplayName("Should publish tokens taken locally since the last sync")
+    @SuppressWarnings("unchecked")
+    void givenLocalConsumption_whenSyncing_thenItShouldBeAppended() {
+        // Given
+        rateLimiter.tryConsume(route, "ip:10.0.0.1", System.nanoTime());
+        rateLimiter.tryConsume(route, "ip:10.0.0.1", System.nanoTime());
+
+        // When
+        sync.sync();
+
+        // Then
+        ArgumentCaptor<Map<String, Long>> consumed = ArgumentCaptor.forClass(Map.class);
+        verify(exchange).append(anyString(), consumed.capture());
+        assertEquals(Map.of("monitor|ip:10.0.0.1", 2L), consumed.getValue());
+    }
+
+    @Test
+    @DisplayName("Should take consumption from the other replicas out of the local buckets")
+    void givenRemoteConsumption_whenSyncing_thenLocalBucketShouldBeSpent() {
+        // Given
+        when(exchange.lastId()).thenReturn(40L);
+        when(exchange.readAfter(eq(40L), anyString()))
+                .thenReturn(List.of(new RateLimitExchange.Consumption(41, "monitor|ip:10.0.0.1", 3)));
+
+        // When
+        sync.sync();
+
+        // Then
+        assertTrue(rateLimiter.tryConsume(route, "ip:10.0.0.1", System.nanoTime()) > 0);
+        sync.sync();
+        verify(exchange).readAfter(eq(41L), anyString());
+    }
+
+    @Test
+    @DisplayName("Should keep unpublished consumption for the next sync when Postgres fails")
+    @SuppressWarnings("unchecked")
+    void givenFailingAppend_whenSyncing_thenConsumptionShouldBeRetried() {
+        // Given
+        rateLimiter.tryConsume(route, "ip:10.0.0.1", System.nanoTime());
+        doThrow(new DataAccessResourceFailureException("down")).doNothing().when(exchange).append(anyString(), anyMap());
+
+        // When
+        sync.sync();
+        sync.sync();
+
+        // Then
+        ArgumentCaptor<Map<String, Long>> consumed = ArgumentCaptor.forClass(Map.class);
+        verify(exchange, times(2)).append(anyString(), consumed.capture());
+        assertEquals(Map.of("monitor|ip:10.0.0.1", 1L), consumed.getAllValues().get(1));
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.five.seven.food.infra.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Token Bucket Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity and then refuse with the wait until the next token")
+    void givenFullBucket_whenBursting_thenCapacityShouldBeAllowed() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+
+        // When
+        long first = bucket.tryConsume(0);
+        long second = bucket.tryConsume(0);
+        long third = bucket.tryConsume(0);
+        long fourth = bucket.tryConsume(0);
+
+        // Then
+        assertEquals(0, first + second + third);
+        assertEquals(SECOND / 2, fourth);
+        assertEquals(3, bucket.drainUnsynced());
+        assertEquals(0, bucket.drainUnsynced());
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate")
+    void givenEmptyBucket_whenTimePasses_thenTokensShouldRefill() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // When
+        long halfSecondLater = bucket.tryConsume(SECOND / 2);
+        long sameInstant = bucket.tryConsume(SECOND / 2);
+
+        // Then
+        assertEquals(0, halfSecondLater);
+        assertTrue(sameInstant > 0);
+    }
+
+    @Test
+    @DisplayName("Should take remote consumption without overdrawing the bucket")
+    void givenRemoteConsumption_whenApplied_thenBucketShouldEmptyAtMost() {
+        // Given
+        TokenBucket bucket = new TokenBucket(5, 1, 0);
+
+        // When
+        bucket.consumeRemote(100, 0);
+
+        // Then
+        assertEquals(SECOND, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(SECOND));
+        assertEquals(1, bucket.drainUnsynced());
+    }
+
+    @Test
+    @DisplayName("Should be idle once full again with nothing left to publish")
+    void givenSpentBucket_whenRefilledAndDrained_thenIdle() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(0);
+
+        // When
+        boolean idleWithUnsynced = bucket.isIdle(5 * SECOND);
+        bucket.drainUnsynced();
+
+        // Then
+        assertFalse(idleWithUnsynced);
+        assertTrue(bucket.isIdle(5 * SECOND));
+        assertFalse(bucket.isIdle(0));
+    }
+}
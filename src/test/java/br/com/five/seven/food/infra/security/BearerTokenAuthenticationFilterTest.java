@@ -0,0 +1,89 @@
+package br.com.five.seven.food.infra.security;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bearer Token Authentication Filter Tests")
+class BearerTokenAuthenticationFilterTest {
+
+    private final SignedTokenService tokenService =
+            new SignedTokenService("0123456789abcdef0123456789abcdef", Duration.ofMinutes(15), Clock.systemUTC());
+
+    private final BearerTokenAuthenticationFilter filter = new BearerTokenAuthenticationFilter(tokenService);
+
+    @Test
+    @DisplayName("Should authenticate the request with a valid token")
+    void givenValidToken_whenFiltering_thenRequestShouldBeAuthenticated() throws ServletException, IOException {
+        // Given
+        String token = tokenService.issue(UsernamePasswordAuthenticationToken.authenticated("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/v1/orders/1/advance-status");
+        request.addHeader("Authorization", "Bearer " + token);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse res) {
+                        seen.set(SecurityContextHolder.getContext().getAuthentication());
+                    }
+                }));
+
+        // Then
+        assertEquals("admin", seen.get().getName());
+        assertTrue(seen.get().getAuthorities().contains(AuthorityUtils.createAuthorityList("ROLE_ADMIN").get(0)));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid token with 401")
+    void givenInvalidToken_whenFiltering_thenRequestShouldBeRejected() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/v1/orders/1/advance-status");
+        request.addHeader("Authorization", "Bearer forged.token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should leave requests without a Bearer header to HTTP Basic")
+    void givenBasicHeader_whenFiltering_thenRequestShouldContinueUntouched() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/orders");
+        request.addHeader("Authorization", "Basic YWRtaW46YWRtaW4=");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertSame(request, chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
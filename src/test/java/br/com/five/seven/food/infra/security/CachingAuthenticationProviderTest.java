@@ -0,0 +1,97 @@
+package br.com.five.seven.food.infra.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Caching Authentication Provider Tests")
+class CachingAuthenticationProviderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new CachingAuthenticationProvider(delegate, Duration.ofMinutes(5), 10, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should verify the password once while the credentials are cached")
+    void givenVerifiedCredentials_whenAuthenticatingAgain_thenDelegateShouldNotBeCalled() {
+        // Given
+        when(delegate.authenticate(any())).thenReturn(authenticated("admin"));
+
+        // When
+        provider.authenticate(basic("admin", "admin"));
+        Authentication second = provider.authenticate(basic("admin", "admin"));
+
+        // Then
+        verify(delegate, times(1)).authenticate(any());
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertNull(second.getCredentials());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN"), second.getAuthorities());
+    }
+
+    @Test
+    @DisplayName("Should always verify a different password")
+    void givenWrongPassword_whenAuthenticating_thenDelegateShouldReject() {
+        // Given
+        when(delegate.authenticate(any()))
+                .thenReturn(authenticated("admin"))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+        provider.authenticate(basic("admin", "admin"));
+
+        // When / Then
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(basic("admin", "wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("Should verify the password again after the TTL")
+    void givenExpiredEntry_whenAuthenticating_thenDelegateShouldBeCalledAgain() {
+        // Given
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofMinutes(6)));
+        CachingAuthenticationProvider expiring = new CachingAuthenticationProvider(delegate, Duration.ofMinutes(5), 10, clock);
+        when(delegate.authenticate(any())).thenReturn(authenticated("admin"));
+        expiring.authenticate(basic("admin", "admin"));
+
+        // When
+        expiring.authenticate(basic("admin", "admin"));
+
+        // Then
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private static UsernamePasswordAuthenticationToken basic(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+
+    private static Authentication authenticated(String username) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.five.seven.food.infra.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Signed Token Service Tests")
+class SignedTokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+    private final SignedTokenService tokenService = service(SECRET, NOW);
+
+    @Test
+    @DisplayName("Should carry the username and authorities of the login")
+    void givenIssuedToken_whenVerifying_thenAuthenticationShouldBeRestored() {
+        // Given
+        String token = tokenService.issue(admin());
+
+        // When
+        Optional<Authentication> result = tokenService.verify(token);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isAuthenticated());
+        assertEquals("admin", result.get().getName());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN"), result.get().getAuthorities());
+    }
+
+    @Test
+    @DisplayName("Should be accepted by another replica sharing the secret")
+    void givenSameSecret_whenVerifyingOnAnotherInstance_thenTokenShouldBeAccepted() {
+        // When
+        String token = tokenService.issue(admin());
+
+        // Then
+        assertTrue(service(SECRET, NOW.plusSeconds(60)).verify(token).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should reject expired, tampered or foreign tokens")
+    void givenInvalidTokens_whenVerifying_thenTheyShouldBeRejected() {
+        // Given
+        String token = tokenService.issue(admin());
+        String otherUser = tokenService.issue(UsernamePasswordAuthenticationToken.authenticated("kitchen", null,
+                AuthorityUtils.NO_AUTHORITIES));
+        String tampered = otherUser.substring(0, otherUser.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        // When / Then
+        assertTrue(service(SECRET, NOW.plus(Duration.ofMinutes(15))).verify(token).isEmpty());
+        assertTrue(tokenService.verify(tampered).isEmpty());
+        assertTrue(service("fedcba9876543210fedcba9876543210", NOW).verify(token).isEmpty());
+        assertTrue(tokenService.verify("not-a-token").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with a short secret")
+    void givenShortSecret_whenCreating_thenShouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> service("short", NOW));
+    }
+
+    private static SignedTokenService service(String secret, Instant now) {
+        return new SignedTokenService(secret, Duration.ofMinutes(15), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static Authentication admin() {
+        return UsernamePasswordAuthenticationToken.authenticated("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.five.seven.food.infra.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Statement Metrics Listener Tests")
+class StatementMetricsListenerTest {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StatementMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        SqlInstrumentationProperties properties = new SqlInstrumentationProperties();
+        properties.setSlowQueryThreshold(Duration.ofMillis(100));
+        listener = new StatementMetricsListener(meterRegistryProvider, properties);
+    }
+
+    @Test
+    @DisplayName("Should record statement latency tagged by operation and endpoint")
+    void givenExecutedStatement_whenAfterQuery_thenLatencyShouldBeRecorded() {
+        // Given
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(15);
+        executionInfo.setSuccess(true);
+
+        // When
+        listener.afterQuery(executionInfo, List.of(new QueryInfo("select o1_0.id from orders o1_0 where o1_0.id=?")));
+
+        // Then
+        Timer timer = meterRegistry.find(StatementMetricsListener.METRIC_NAME)
+                .tag("operation", "select")
+                .tag("endpoint", StatementMetricsListener.NO_ENDPOINT)
+                .tag("outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should classify statements by their leading keyword")
+    void givenStatements_whenClassifying_thenOperationShouldBeReturned() {
+        assertEquals("insert", SqlRedactor.operationOf("  insert into orders values (?)"));
+        assertEquals("select", SqlRedactor.operationOf("(SELECT 1)"));
+        assertEquals("delete", SqlRedactor.operationOf("delete from order_items where id=?"));
+        assertEquals("other", SqlRedactor.operationOf("commit"));
+    }
+
+    @Test
+    @DisplayName("Should redact inline literals and never expose bind values")
+    void givenSqlWithLiterals_whenRedacting_thenValuesShouldBeHidden() {
+        // When
+        String redacted = SqlRedactor.redact("select * from orders o1_0 where cpf_client='12345678900' and total_amount>25.90", 2000);
+        String parameters = SqlRedactor.describeParameters(Arrays.asList("12345678900", 10L, null));
+
+        // Then
+        assertEquals("select * from orders o1_0 where cpf_client=? and total_amount>?", redacted);
+        assertEquals("[String, Long, null]", parameters);
+    }
+
+    @Test
+    @DisplayName("Should truncate very long statements in the slow query log")
+    void givenLongSql_whenRedacting_thenSqlShouldBeTruncated() {
+        assertEquals("select...", SqlRedactor.redact("select * from orders", 6));
+    }
+}
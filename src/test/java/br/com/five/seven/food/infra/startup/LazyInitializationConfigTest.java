@@ -0,0 +1,42 @@
+package br.com.five.seven.food.infra.startup;
+
+import br.com.five.seven.food.adapter.out.metrics.OrderMetricsAdapter;
+import br.com.five.seven.food.adapter.out.metrics.OrderStatusGauges;
+import br.com.five.seven.food.infra.scheduling.OrderArchiveScheduler;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lazy Initialization Config Tests")
+class LazyInitializationConfigTest {
+
+    @Test
+    @DisplayName("Should keep beans with scheduled methods eager")
+    void givenScheduledBeans_whenFiltering_thenTheyShouldBeExcluded() {
+        // Given
+        LazyInitializationExcludeFilter filter = LazyInitializationConfig.eagerScheduledBeans();
+
+        // When / Then
+        assertTrue(filter.isExcluded("orderStatusGauges", new RootBeanDefinition(), OrderStatusGauges.class));
+        assertTrue(filter.isExcluded("orderArchiveScheduler", new RootBeanDefinition(), OrderArchiveScheduler.class));
+        assertFalse(filter.isExcluded("orderMetricsAdapter", new RootBeanDefinition(), OrderMetricsAdapter.class));
+        assertFalse(filter.isExcluded("unknown", new RootBeanDefinition(), null));
+    }
+
+    @Test
+    @DisplayName("Should keep migrations and the JPA bootstrap eager")
+    void givenPersistenceBeans_whenFiltering_thenTheyShouldBeExcluded() {
+        // Given
+        LazyInitializationExcludeFilter filter = LazyInitializationConfig.eagerPersistence();
+
+        // When / Then
+        assertTrue(filter.isExcluded("flywayInitializer", new RootBeanDefinition(), FlywayMigrationInitializer.class));
+        assertTrue(filter.isExcluded("entityManagerFactory", new RootBeanDefinition(), EntityManagerFactory.class));
+        assertFalse(filter.isExcluded("orderMetricsAdapter", new RootBeanDefinition(), OrderMetricsAdapter.class));
+    }
+}
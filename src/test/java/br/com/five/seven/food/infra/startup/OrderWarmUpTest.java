@@ -0,0 +1,128 @@
+package br.com.five.seven.food.infra.startup;
+
+import br.com.five.seven.food.adapter.in.mappers.CatalogResponseCache;
+import br.com.five.seven.food.adapter.in.mappers.ProductMapperImpl;
+import br.com.five.seven.food.adapter.in.mappers.impl.ItemMapperImpl;
+import br.com.five.seven.food.adapter.in.mappers.impl.OrderMapperImpl;
+import br.com.five.seven.food.application.domain.Category;
+import br.com.five.seven.food.application.domain.Order;
+import br.com.five.seven.food.application.domain.Product;
+import br.com.five.seven.food.application.ports.in.OrderServiceIn;
+import br.com.five.seven.food.application.ports.in.ProductServiceIn;
+import br.com.five.seven.food.application.ports.out.IOrderRepositoryOut;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Warm-Up Tests")
+class OrderWarmUpTest {
+
+    @Mock
+    private OrderServiceIn orderService;
+    @Mock
+    private ProductServiceIn productService;
+    @Mock
+    private IOrderRepositoryOut orderRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TransactionStatus transaction;
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderWarmUp warmUp;
+
+    @BeforeEach
+    void setUp() {
+        CatalogResponseCache catalogResponses = new CatalogResponseCache();
+        OrderMapperImpl orderMapper = new OrderMapperImpl(new ItemMapperImpl(new ProductMapperImpl(), catalogResponses));
+        warmUp = new OrderWarmUp(orderService, productService, orderRepository, orderMapper, catalogResponses,
+                JsonMapper.builder().findAndAddModules().build(), transactionManager, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should read the order lists and the catalog and serialize the synthetic orders")
+    void givenEmptyDatabase_whenReading_thenReadPathsShouldBeExercised() throws Exception {
+        // Given
+        when(orderService.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(orderService.findAllByOrderStatus(eq(OrderWarmUp.MONITOR_STATUSES), any(Pageable.class))).thenReturn(Page.empty());
+        when(productService.getAllProducts()).thenReturn(List.of());
+
+        // When
+        long bytes = warmUp.read();
+
+        // Then
+        assertTrue(bytes > 0);
+        verify(orderService).findAll(any(Pageable.class));
+        verify(orderService).findAllByOrderStatus(eq(OrderWarmUp.MONITOR_STATUSES), any(Pageable.class));
+        verifyNoInteractions(orderRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should insert an order with a catalog product, flush it and always roll back")
+    void givenCatalog_whenWriting_thenOrderShouldBeFlushedAndRolledBack() throws Exception {
+        // Given
+        Product product = product();
+        when(productService.getAllProducts()).thenReturn(List.of(product));
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        warmUp.writeAndRollBack();
+
+        // Then
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertEquals(1, saved.getValue().getItems().size());
+        assertSame(product, saved.getValue().getItems().get(0).getProduct());
+        assertNull(saved.getValue().getCpfClient());
+        verify(entityManager).flush();
+        verify(transactionManager).rollback(transaction);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should roll back even when the insert fails")
+    void givenFailingInsert_whenWriting_thenTransactionShouldBeRolledBack() {
+        // Given
+        when(productService.getAllProducts()).thenReturn(List.of());
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(orderRepository.save(any(Order.class))).thenThrow(new IllegalStateException("database down"));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> warmUp.writeAndRollBack());
+        verify(transactionManager).rollback(transaction);
+        verifyNoInteractions(entityManager);
+    }
+
+    private Product product() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("X-Burger");
+        product.setPrice(new BigDecimal("25.90"));
+        product.setActive(true);
+        product.setImages(new ArrayList<>());
+        product.setCategory(new Category(1L, "Lanche", true));
+        return product;
+    }
+}
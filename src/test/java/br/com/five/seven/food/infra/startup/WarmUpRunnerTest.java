@@ -0,0 +1,84 @@
+package br.com.five.seven.food.infra.startup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Warm-Up Runner Tests")
+class WarmUpRunnerTest {
+
+    @Mock
+    private OrderWarmUp warmUp;
+
+    private WarmUpProperties properties;
+    private WarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmUpProperties();
+        properties.setReadIterations(5);
+        properties.setWriteIterations(2);
+        runner = new WarmUpRunner(warmUp, properties);
+    }
+
+    @Test
+    @DisplayName("Should run the configured read and write iterations")
+    void givenIterationBudget_whenRunning_thenEveryIterationShouldRun() throws Exception {
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(warmUp, times(5)).read();
+        verify(warmUp, times(2)).writeAndRollBack();
+    }
+
+    @Test
+    @DisplayName("Should stop once the time budget is spent")
+    void givenSpentTimeBudget_whenRunning_thenNothingShouldRun() {
+        // Given
+        properties.setMaxDuration(Duration.ZERO);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(warmUp);
+    }
+
+    @Test
+    @DisplayName("Should not fail startup when the warm-up fails")
+    void givenFailingRead_whenRunning_thenWarmUpShouldStopQuietly() throws Exception {
+        // Given
+        when(warmUp.read()).thenThrow(new JsonProcessingException("broken") {
+        });
+
+        // When / Then
+        assertDoesNotThrow(() -> runner.run(new DefaultApplicationArguments()));
+        verify(warmUp, times(1)).read();
+        verify(warmUp, never()).writeAndRollBack();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void givenDisabled_whenRunning_thenNothingShouldRun() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(warmUp);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.five.seven.food.stub;
+
+import br.com.five.seven.food.adapter.out.api.response.ClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the users service, serving the {@code GET /v1/clients/{cpf}}
+ * contract consumed by {@code ClientApiClient}. Latency, server errors and unknown clients
+ * follow the {@link ClientApiStubBehavior} it was started with, so load and integration
+ * tests can exercise order creation against a realistic upstream while offline. The draws of
+ * the n-th lookup come from the seed and n alone, so a run with the same seed and request
+ * count gets the same latencies and errors however the handler threads are scheduled.
+ */
+public class ClientApiStub implements AutoCloseable {
+
+    private static final String CLIENTS_PATH = "/v1/clients/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ClientApiStubBehavior behavior;
+    private final AtomicLong requests = new AtomicLong();
+
+    private ClientApiStub(HttpServer server, ExecutorService executor, ClientApiStubBehavior behavior) {
+        this.server = server;
+        this.executor = executor;
+        this.behavior = behavior;
+    }
+
+    /**
+     * Starts the stub on a free local port, answering every CPF immediately.
+     */
+    public static ClientApiStub start() throws IOException {
+        return start(ClientApiStubBehavior.instant());
+    }
+
+    /**
+     * Starts the stub on a free local port with the given behaviour.
+     */
+    public static ClientApiStub start(ClientApiStubBehavior behavior) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // Virtual threads so simulated latency never limits how many calls are in flight
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ClientApiStub stub = new ClientApiStub(server, executor, behavior);
+        server.createContext(CLIENTS_PATH, stub::handle);
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    /**
+     * Value for {@code api.client.url}.
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Number of client lookups received so far.
+     */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String cpf = exchange.getRequestURI().getPath().substring(CLIENTS_PATH.length());
+            if (!"GET".equals(exchange.getRequestMethod()) || cpf.isEmpty() || cpf.contains("/")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            SplittableRandom random = new SplittableRandom(behavior.seed() + requests.incrementAndGet());
+
+            Duration latency = behavior.latency().next(random);
+            double roll = random.nextDouble();
+            sleep(latency);
+
+            if (roll < behavior.errorRate()) {
+                writeJson(exchange, behavior.errorStatus(), Map.of("error", "Simulated upstream failure"));
+            } else if (roll < behavior.errorRate() + behavior.notFoundRatio()) {
+                writeJson(exchange, 404, Map.of("error", "Client with CPF " + cpf + " not found"));
+            } else {
+                writeJson(exchange, 200, new ClientResponse(cpf, cpf, "Cliente " + cpf, cpf + "@example.com", "11999999999"));
+            }
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        if (latency.isZero() || latency.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+}
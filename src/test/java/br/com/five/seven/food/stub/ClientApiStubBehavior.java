@@ -0,0 +1,95 @@
+package br.com.five.seven.food.stub;
+
+import java.time.Duration;
+
+/**
+ * Behaviour of the {@link ClientApiStub}: latency of every answer and the share of calls
+ * failing with a server error or answering that the client does not exist. Immutable, each
+ * {@code with} method returns a copy.
+ */
+public final class ClientApiStubBehavior {
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double notFoundRatio;
+    private final int errorStatus;
+    private final long seed;
+
+    private ClientApiStubBehavior(LatencyDistribution latency, double errorRate, double notFoundRatio,
+                                  int errorStatus, long seed) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.notFoundRatio = notFoundRatio;
+        this.errorStatus = errorStatus;
+        this.seed = seed;
+    }
+
+    /**
+     * Answers every CPF immediately with a client.
+     */
+    public static ClientApiStubBehavior instant() {
+        return new ClientApiStubBehavior(LatencyDistribution.none(), 0, 0, 500, 42L);
+    }
+
+    public ClientApiStubBehavior withLatency(LatencyDistribution latency) {
+        return new ClientApiStubBehavior(latency, errorRate, notFoundRatio, errorStatus, seed);
+    }
+
+    public ClientApiStubBehavior withLatency(Duration median, Duration p99) {
+        return withLatency(LatencyDistribution.logNormal(median, p99));
+    }
+
+    /**
+     * @param errorRate share of calls, between 0 and 1, answered with the error status
+     */
+    public ClientApiStubBehavior withErrorRate(double errorRate) {
+        return new ClientApiStubBehavior(latency, checkRatio(errorRate), notFoundRatio, errorStatus, seed);
+    }
+
+    /**
+     * @param notFoundRatio share of calls, between 0 and 1, answered with 404
+     */
+    public ClientApiStubBehavior withNotFoundRatio(double notFoundRatio) {
+        return new ClientApiStubBehavior(latency, errorRate, checkRatio(notFoundRatio), errorStatus, seed);
+    }
+
+    public ClientApiStubBehavior withErrorStatus(int errorStatus) {
+        return new ClientApiStubBehavior(latency, errorRate, notFoundRatio, errorStatus, seed);
+    }
+
+    public ClientApiStubBehavior withSeed(long seed) {
+        return new ClientApiStubBehavior(latency, errorRate, notFoundRatio, errorStatus, seed);
+    }
+
+    LatencyDistribution latency() {
+        return latency;
+    }
+
+    double errorRate() {
+        return errorRate;
+    }
+
+    double notFoundRatio() {
+        return notFoundRatio;
+    }
+
+    int errorStatus() {
+        return errorStatus;
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    private static double checkRatio(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Ratio must be between 0 and 1, got " + ratio);
+        }
+        return ratio;
+    }
+
+    @Override
+    public String toString() {
+        return "errorRate=" + errorRate + ", notFoundRatio=" + notFoundRatio + ", errorStatus=" + errorStatus;
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.five.seven.food.stub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Client API Stub BDD Tests")
+class ClientApiStubTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("Scenario: The stub answers the client contract with the requested CPF")
+    void givenDefaultStub_whenGettingClientByCpf_thenClientShouldBeReturned() throws Exception {
+        // Given: A stub with the default behaviour
+        try (ClientApiStub stub = ClientApiStub.start()) {
+            // When: Getting a client by CPF
+            HttpResponse<String> response = get(stub, "/v1/clients/12345678900");
+
+            // Then: The client is returned as JSON
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("\"cpf\":\"12345678900\""));
+            assertEquals(1, stub.requestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario: A not-found ratio of one answers every lookup with 404")
+    void givenNotFoundRatioOfOne_whenGettingClientByCpf_thenNotFoundShouldBeReturned() throws Exception {
+        // Given: A stub that never knows the client
+        try (ClientApiStub stub = ClientApiStub.start(ClientApiStubBehavior.instant().withNotFoundRatio(1))) {
+            // When/Then: The lookup answers 404
+            assertEquals(404, get(stub, "/v1/clients/12345678900").statusCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario: An error rate of one answers every lookup with the error status")
+    void givenErrorRateOfOne_whenGettingClientByCpf_thenErrorStatusShouldBeReturned() throws Exception {
+        // Given: A stub that always fails with 503
+        ClientApiStubBehavior behavior = ClientApiStubBehavior.instant().withErrorRate(1).withErrorStatus(503);
+        try (ClientApiStub stub = ClientApiStub.start(behavior)) {
+            // When/Then: The lookup answers 503
+            assertEquals(503, get(stub, "/v1/clients/12345678900").statusCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario: A fixed latency delays every answer")
+    void givenFixedLatency_whenGettingClientByCpf_thenAnswerShouldTakeAtLeastTheLatency() throws Exception {
+        // Given: A stub answering after 100 ms
+        ClientApiStubBehavior behavior = ClientApiStubBehavior.instant()
+                .withLatency(LatencyDistribution.fixed(Duration.ofMillis(100)));
+        try (ClientApiStub stub = ClientApiStub.start(behavior)) {
+            // When: Getting a client by CPF
+            long start = System.nanoTime();
+            HttpResponse<String> response = get(stub, "/v1/clients/12345678900");
+
+            // Then: The answer took at least the configured latency
+            assertEquals(200, response.statusCode());
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario: The log-normal distribution matches the requested median and p99")
+    void givenLogNormalDistribution_whenSampling_thenMedianAndP99ShouldMatch() {
+        // Given: A log-normal latency with 40 ms median and 250 ms p99
+        LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(40), Duration.ofMillis(250));
+        Random random = new Random(7);
+
+        // When: Sampling it many times
+        long[] samples = new long[20_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = distribution.next(random).toMillis();
+        }
+        Arrays.sort(samples);
+
+        // Then: The sampled percentiles are close to the configured ones
+        assertEquals(40, samples[samples.length / 2], 4);
+        assertEquals(250, samples[(int) (samples.length * 0.99)], 30);
+    }
+
+    @Test
+    @DisplayName("Scenario: The same seed gives the same outcomes under concurrent lookups")
+    void givenSameSeed_whenLookingUpConcurrently_thenOutcomesShouldBeReproducible() throws Exception {
+        // Given: Two stubs with the same seed, latency, errors and unknown clients
+        ClientApiStubBehavior behavior = ClientApiStubBehavior.instant()
+                .withLatency(Duration.ofMillis(5), Duration.ofMillis(30))
+                .withErrorRate(0.3)
+                .withNotFoundRatio(0.2)
+                .withSeed(7);
+        try (ClientApiStub first = ClientApiStub.start(behavior); ClientApiStub second = ClientApiStub.start(behavior)) {
+            // When: Sending 100 lookups at once to each
+            Map<Integer, Long> firstOutcomes = concurrentStatuses(first, 100);
+            Map<Integer, Long> secondOutcomes = concurrentStatuses(second, 100);
+
+            // Then: Both answered with the same mix of statuses
+            assertEquals(firstOutcomes, secondOutcomes);
+            assertEquals(3, firstOutcomes.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario: Fail to configure a ratio outside zero and one")
+    void givenRatioAboveOne_whenConfiguringBehavior_thenIllegalArgumentExceptionShouldBeThrown() {
+        // When/Then: The ratio is rejected
+        assertThrows(IllegalArgumentException.class, () -> ClientApiStubBehavior.instant().withErrorRate(1.5));
+    }
+
+    private Map<Integer, Long> concurrentStatuses(ClientApiStub stub, int lookups) {
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, lookups)
+                .mapToObj(i -> httpClient.sendAsync(HttpRequest.newBuilder(URI.create(stub.baseUrl() + "/v1/clients/" + i))
+                        .GET().build(), HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        return responses.stream()
+                .collect(Collectors.groupingBy(response -> response.join().statusCode(), TreeMap::new, Collectors.counting()));
+    }
+
+    private HttpResponse<String> get(ClientApiStub stub, String path) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(stub.baseUrl() + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
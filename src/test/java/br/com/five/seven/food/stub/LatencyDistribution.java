@@ -0,0 +1,46 @@
+package br.com.five.seven.food.stub;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * How long the stub waits before answering. Upstream latency is usually right-skewed, so
+ * {@link #logNormal(Duration, Duration)} is the closest match to a real service.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    // Standard normal quantile of the 99th percentile
+    double Z_99 = 2.3263;
+
+    Duration next(RandomGenerator random);
+
+    static LatencyDistribution none() {
+        return random -> Duration.ZERO;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        return random -> latency;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long spread = max.toNanos() - minNanos;
+        if (spread < 0) {
+            throw new IllegalArgumentException("max must not be lower than min");
+        }
+        return random -> Duration.ofNanos(minNanos + (spread == 0 ? 0 : random.nextLong(spread + 1)));
+    }
+
+    /**
+     * Log-normal latency with the given median and 99th percentile.
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        if (p99.compareTo(median) < 0 || median.isZero()) {
+            throw new IllegalArgumentException("p99 must be at least the median and the median positive");
+        }
+        double mu = Math.log(median.toNanos());
+        double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+        return random -> Duration.ofNanos((long) Math.exp(mu + sigma * random.nextGaussian()));
+    }
+}